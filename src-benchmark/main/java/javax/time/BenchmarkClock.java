@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for obtaining the current date and time from a {@code Clock}.
+ * <p>
+ * Each operation is a single call, with the reported score being the average
+ * time for that call. The cached clock is updated every millisecond.
+ * Run with {@code -prof gc} to see the allocation rate.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BenchmarkClock {
+
+    /** The zone. */
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+
+    /** The system clock. */
+    private Clock system;
+    /** The cached clock. */
+    private CachedClock cached;
+
+    /**
+     * Sets up the clocks.
+     */
+    @Setup
+    public void setUp() {
+        system = Clock.system(ZONE);
+        cached = CachedClock.start(system, Duration.ofMillis(1));
+    }
+
+    /**
+     * Stops the cached clock.
+     */
+    @TearDown
+    public void tearDown() {
+        cached.stop();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public LocalDateTime systemDateTimeToSecond() {
+        return system.dateTimeToSecond();
+    }
+
+    @Benchmark
+    public LocalDateTime cachedDateTimeToSecond() {
+        return cached.dateTimeToSecond();
+    }
+
+    @Benchmark
+    public OffsetDateTime systemOffsetDateTime() {
+        return system.offsetDateTime();
+    }
+
+    @Benchmark
+    public ZonedDateTime systemZonedDateTime() {
+        return system.zonedDateTime();
+    }
+
+    @Benchmark
+    public ZonedDateTime cachedZonedDateTime() {
+        return cached.zonedDateTime();
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a set of JMH JSON results against a stored baseline.
+ * <p>
+ * Benchmarks are matched by name and parameters.
+ * A benchmark has regressed if its score has worsened by more than the threshold,
+ * taking into account whether the mode measures time (lower is better)
+ * or throughput (higher is better).
+ * The program exits with a non-zero status if any benchmark has regressed.
+ *
+ * @author Stephen Colebourne
+ */
+public class BenchmarkComparison {
+
+    /**
+     * Main.
+     * @param args  the results file, the baseline file and the threshold percentage
+     * @throws IOException if an IO error occurs
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.out.println("Usage: BenchmarkComparison <results.json> <baseline.json> <thresholdPercent>");
+            System.exit(2);
+        }
+        File resultsFile = new File(args[0]);
+        File baselineFile = new File(args[1]);
+        double threshold = Double.parseDouble(args[2]);
+        if (baselineFile.exists() == false) {
+            System.out.println("No baseline found at " + baselineFile + ", nothing to compare");
+            return;
+        }
+        Map<String, Score> results = readScores(resultsFile);
+        Map<String, Score> baseline = readScores(baselineFile);
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score current = entry.getValue();
+            Score base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.println(String.format("NEW       %-80s %12.3f %s", entry.getKey(), current.score, current.unit));
+                continue;
+            }
+            double change = (current.score - base.score) * 100d / base.score;
+            double worsening = (current.higherIsBetter() ? -change : change);
+            String status = "OK";
+            if (worsening > threshold) {
+                status = "REGRESSED";
+                regressions++;
+            } else if (worsening < -threshold) {
+                status = "IMPROVED";
+            }
+            System.out.println(String.format("%-9s %-80s %12.3f -> %12.3f %s (%+.1f%%)",
+                    status, entry.getKey(), base.score, current.score, current.unit, change));
+        }
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed by more than " + threshold + "%");
+            System.exit(1);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the primary scores from a JMH JSON results file.
+     *
+     * @param file  the file to read, not null
+     * @return the scores keyed by benchmark name and parameters, not null
+     * @throws IOException if an IO error occurs
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Score> readScores(File file) throws IOException {
+        Reader reader = new InputStreamReader(new FileInputStream(file), "UTF-8");
+        Object json;
+        try {
+            json = new JsonParser(reader).parse();
+        } finally {
+            reader.close();
+        }
+        Map<String, Score> scores = new LinkedHashMap<String, Score>();
+        for (Object obj : (List<Object>) json) {
+            Map<String, Object> run = (Map<String, Object>) obj;
+            StringBuilder key = new StringBuilder((String) run.get("benchmark"));
+            Map<String, Object> params = (Map<String, Object>) run.get("params");
+            if (params != null) {
+                key.append(new TreeMap<String, Object>(params));
+            }
+            key.append(' ').append(run.get("mode"));
+            Map<String, Object> metric = (Map<String, Object>) run.get("primaryMetric");
+            Score score = new Score();
+            score.mode = (String) run.get("mode");
+            score.score = ((Number) metric.get("score")).doubleValue();
+            score.unit = (String) metric.get("scoreUnit");
+            scores.put(key.toString(), score);
+        }
+        return scores;
+    }
+
+    /**
+     * A single primary score.
+     */
+    static final class Score {
+        /** The JMH mode. */
+        String mode;
+        /** The score. */
+        double score;
+        /** The unit. */
+        String unit;
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Minimal JSON parser, sufficient for the output of JMH.
+     */
+    static final class JsonParser {
+        /** The reader. */
+        private final Reader reader;
+        /** The current character, -1 at the end. */
+        private int ch;
+
+        JsonParser(Reader reader) throws IOException {
+            this.reader = reader;
+            this.ch = reader.read();
+        }
+
+        Object parse() throws IOException {
+            skipWhitespace();
+            switch (ch) {
+                case '{': {
+                    Map<String, Object> map = new LinkedHashMap<String, Object>();
+                    next();
+                    skipWhitespace();
+                    while (ch != '}') {
+                        String name = (String) parse();
+                        skipWhitespace();
+                        expect(':');
+                        map.put(name, parse());
+                        skipWhitespace();
+                        if (ch == ',') {
+                            next();
+                            skipWhitespace();
+                        }
+                    }
+                    next();
+                    return map;
+                }
+                case '[': {
+                    List<Object> list = new ArrayList<Object>();
+                    next();
+                    skipWhitespace();
+                    while (ch != ']') {
+                        list.add(parse());
+                        skipWhitespace();
+                        if (ch == ',') {
+                            next();
+                        }
+                        skipWhitespace();
+                    }
+                    next();
+                    return list;
+                }
+                case '"': {
+                    StringBuilder buf = new StringBuilder();
+                    next();
+                    while (ch != '"') {
+                        if (ch == '\\') {
+                            next();
+                            switch (ch) {
+                                case 'n': buf.append('\n'); break;
+                                case 't': buf.append('\t'); break;
+                                case 'r': buf.append('\r'); break;
+                                case 'b': buf.append('\b'); break;
+                                case 'f': buf.append('\f'); break;
+                                case 'u': {
+                                    char[] hex = new char[4];
+                                    for (int i = 0; i < 4; i++) {
+                                        next();
+                                        hex[i] = (char) ch;
+                                    }
+                                    buf.append((char) Integer.parseInt(new String(hex), 16));
+                                    break;
+                                }
+                                default: buf.append((char) ch); break;
+                            }
+                        } else {
+                            buf.append((char) ch);
+                        }
+                        next();
+                    }
+                    next();
+                    return buf.toString();
+                }
+                default: {
+                    StringBuilder buf = new StringBuilder();
+                    while (ch != -1 && ch != ',' && ch != '}' && ch != ']' && Character.isWhitespace(ch) == false) {
+                        buf.append((char) ch);
+                        next();
+                    }
+                    String token = buf.toString();
+                    if (token.equals("null")) {
+                        return null;
+                    } else if (token.equals("true") || token.equals("false")) {
+                        return Boolean.valueOf(token);
+                    } else if (token.equals("NaN")) {
+                        return Double.NaN;
+                    }
+                    return Double.valueOf(token);
+                }
+            }
+        }
+
+        private void next() throws IOException {
+            if (ch == -1) {
+                throw new IOException("Unexpected end of JSON");
+            }
+            ch = reader.read();
+        }
+
+        private void skipWhitespace() throws IOException {
+            while (ch != -1 && Character.isWhitespace(ch)) {
+                ch = reader.read();
+            }
+        }
+
+        private void expect(char expected) throws IOException {
+            if (ch != expected) {
+                throw new IOException("Invalid JSON, expected '" + expected + "' but found '" + (char) ch + "'");
+            }
+            next();
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_WEEK;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.time.format.DateTimeFormatter;
+import javax.time.format.DateTimeFormatters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for {@code LocalDate}.
+ * <p>
+ * Each operation is applied to an array of random dates, with the reported
+ * score being the average time for a single date.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BenchmarkLocalDate {
+
+    /** Size. */
+    static final int SIZE = 1000;
+
+    /** The years. */
+    private int[] years = new int[SIZE];
+    /** The months. */
+    private int[] months = new int[SIZE];
+    /** The days. */
+    private int[] days = new int[SIZE];
+    /** The dates. */
+    private LocalDate[] dates = new LocalDate[SIZE];
+    /** The epoch days. */
+    private long[] epochDays = new long[SIZE];
+    /** The formatter. */
+    private DateTimeFormatter formatter;
+
+    /**
+     * Sets up the random data.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(47658758756875687L);
+        for (int i = 0; i < SIZE; i++) {
+            years[i] = random.nextInt(10000);
+            months[i] = random.nextInt(12) + 1;
+            days[i] = random.nextInt(28) + 1;
+            dates[i] = LocalDate.of(years[i], months[i], days[i]);
+            epochDays[i] = dates[i].toEpochDay();
+        }
+        formatter = DateTimeFormatters.isoLocalDate();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void create(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(LocalDate.of(years[i], months[i], days[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public LocalDate[] sort() {
+        LocalDate[] copy = dates.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long query() {
+        long total = 0;
+        for (LocalDate date : dates) {
+            total += date.getYear();
+            total += date.getMonthOfYear().getValue();
+            total += date.getDayOfMonth();
+            total += date.getDayOfWeek().getValue();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void format(Blackhole bh) {
+        for (LocalDate date : dates) {
+            bh.consume(formatter.print(date));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long derive() {
+        long total = 0;
+        for (LocalDate date : dates) {
+            total += date.get(YEAR).getValue();
+            total += date.get(MONTH_OF_YEAR).getValue();
+            total += date.get(DAY_OF_MONTH).getValue();
+            total += date.get(DAY_OF_WEEK).getValue();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void plusDays(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(dates[i].plusDays(days[i] * 11));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long toEpochDay() {
+        long total = 0;
+        for (LocalDate date : dates) {
+            total += date.toEpochDay();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void ofEpochDay(Blackhole bh) {
+        for (long epochDay : epochDays) {
+            bh.consume(LocalDate.ofEpochDay(epochDay));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long epochDayOf() {
+        long total = 0;
+        for (int i = 0; i < SIZE; i++) {
+            total += LocalDate.epochDayOf(years[i], months[i], days[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long packedPlusDays() {
+        long total = 0;
+        for (int i = 0; i < SIZE; i++) {
+            total += LocalDate.packedDateOfEpochDay(epochDays[i] + days[i] * 11);
+        }
+        return total;
+    }
+
+}
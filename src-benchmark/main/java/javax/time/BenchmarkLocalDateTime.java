@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.time.format.DateTimeFormatter;
+import javax.time.format.DateTimeFormatters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for {@code LocalDateTime}.
+ * <p>
+ * Each operation is applied to an array of random date-times, with the reported
+ * score being the average time for a single date-time.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BenchmarkLocalDateTime {
+
+    /** Size. */
+    static final int SIZE = 1000;
+
+    /** The date-time fields, six per date-time. */
+    private int[] fields = new int[SIZE * 6];
+    /** The date-times. */
+    private LocalDateTime[] dateTimes = new LocalDateTime[SIZE];
+    /** The formatter. */
+    private DateTimeFormatter formatter;
+
+    /**
+     * Sets up the random data.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(47658758756875687L);
+        for (int i = 0; i < SIZE; i++) {
+            int j = i * 6;
+            fields[j] = random.nextInt(10000);
+            fields[j + 1] = random.nextInt(12) + 1;
+            fields[j + 2] = random.nextInt(28) + 1;
+            fields[j + 3] = random.nextInt(24);
+            fields[j + 4] = random.nextInt(60);
+            fields[j + 5] = random.nextInt(60);
+            dateTimes[i] = LocalDateTime.of(
+                    fields[j], fields[j + 1], fields[j + 2], fields[j + 3], fields[j + 4], fields[j + 5]);
+        }
+        formatter = DateTimeFormatters.isoLocalDateTime();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void create(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            int j = i * 6;
+            bh.consume(LocalDateTime.of(
+                    fields[j], fields[j + 1], fields[j + 2], fields[j + 3], fields[j + 4], fields[j + 5]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public LocalDateTime[] sort() {
+        LocalDateTime[] copy = dateTimes.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long query() {
+        long total = 0;
+        for (LocalDateTime dt : dateTimes) {
+            total += dt.getYear();
+            total += dt.getMonthOfYear().getValue();
+            total += dt.getDayOfMonth();
+            total += dt.getHourOfDay();
+            total += dt.getMinuteOfHour();
+            total += dt.getSecondOfMinute();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void format(Blackhole bh) {
+        for (LocalDateTime dt : dateTimes) {
+            bh.consume(formatter.print(dt));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long derive() {
+        long total = 0;
+        for (LocalDateTime dt : dateTimes) {
+            total += dt.get(YEAR).getValue();
+            total += dt.get(MONTH_OF_YEAR).getValue();
+            total += dt.get(DAY_OF_MONTH).getValue();
+            total += dt.get(HOUR_OF_DAY).getValue();
+            total += dt.get(MINUTE_OF_HOUR).getValue();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toStringISO(Blackhole bh) {
+        for (LocalDateTime dt : dateTimes) {
+            bh.consume(dt.toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void printToStringBuilder(Blackhole bh) {
+        StringBuilder buf = new StringBuilder(32);
+        for (LocalDateTime dt : dateTimes) {
+            buf.setLength(0);
+            dt.printTo(buf);
+            bh.consume(buf);
+        }
+    }
+
+}
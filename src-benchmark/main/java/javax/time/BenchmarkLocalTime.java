@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_SECOND;
+import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_MINUTE;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.time.format.DateTimeFormatter;
+import javax.time.format.DateTimeFormatters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for {@code LocalTime}.
+ * <p>
+ * Each operation is applied to an array of random times, with the reported
+ * score being the average time for a single time.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BenchmarkLocalTime {
+
+    /** Size. */
+    static final int SIZE = 1000;
+
+    /** The hours. */
+    private int[] hours = new int[SIZE];
+    /** The minutes. */
+    private int[] minutes = new int[SIZE];
+    /** The seconds. */
+    private int[] seconds = new int[SIZE];
+    /** The nanos. */
+    private int[] nanos = new int[SIZE];
+    /** The times. */
+    private LocalTime[] times = new LocalTime[SIZE];
+    /** The formatter. */
+    private DateTimeFormatter formatter;
+
+    /**
+     * Sets up the random data.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(47658758756875687L);
+        for (int i = 0; i < SIZE; i++) {
+            hours[i] = random.nextInt(24);
+            minutes[i] = random.nextInt(60);
+            seconds[i] = random.nextInt(60);
+            nanos[i] = random.nextInt(1000000000);
+            times[i] = LocalTime.of(hours[i], minutes[i], seconds[i], nanos[i]);
+        }
+        formatter = DateTimeFormatters.isoLocalTime();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void create(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(LocalTime.of(hours[i], minutes[i], seconds[i], nanos[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public LocalTime[] sort() {
+        LocalTime[] copy = times.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long query() {
+        long total = 0;
+        for (LocalTime time : times) {
+            total += time.getHourOfDay();
+            total += time.getMinuteOfHour();
+            total += time.getSecondOfMinute();
+            total += time.getNanoOfSecond();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void format(Blackhole bh) {
+        for (LocalTime time : times) {
+            bh.consume(formatter.print(time));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long derive() {
+        long total = 0;
+        for (LocalTime time : times) {
+            total += time.get(HOUR_OF_DAY).getValue();
+            total += time.get(MINUTE_OF_HOUR).getValue();
+            total += time.get(SECOND_OF_MINUTE).getValue();
+            total += time.get(NANO_OF_SECOND).getValue();
+        }
+        return total;
+    }
+
+}
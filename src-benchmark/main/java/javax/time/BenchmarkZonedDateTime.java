@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.time.calendrical.ZoneResolvers;
+import javax.time.format.DateTimeFormatter;
+import javax.time.format.DateTimeFormatters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for {@code ZonedDateTime}.
+ * <p>
+ * Each operation is applied to an array of random date-times between 1970 and 2039,
+ * with the reported score being the average time for a single date-time.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BenchmarkZonedDateTime {
+
+    /** Size. */
+    static final int SIZE = 1000;
+
+    /** The time-zone. */
+    @Param({"Europe/London", "America/New_York"})
+    public String zoneId;
+
+    /** The zone. */
+    private ZoneId zone;
+    /** The local date-times. */
+    private LocalDateTime[] localDateTimes = new LocalDateTime[SIZE];
+    /** The instants. */
+    private Instant[] instants = new Instant[SIZE];
+    /** The zoned date-times. */
+    private ZonedDateTime[] dateTimes = new ZonedDateTime[SIZE];
+    /** The formatter. */
+    private DateTimeFormatter formatter;
+
+    /**
+     * Sets up the random data.
+     */
+    @Setup
+    public void setUp() {
+        zone = ZoneId.of(zoneId);
+        Random random = new Random(47658758756875687L);
+        for (int i = 0; i < SIZE; i++) {
+            localDateTimes[i] = LocalDateTime.of(
+                    random.nextInt(70) + 1970, random.nextInt(12) + 1, random.nextInt(28) + 1,
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60));
+            dateTimes[i] = ZonedDateTime.of(localDateTimes[i], zone, ZoneResolvers.postTransition());
+            instants[i] = dateTimes[i].toInstant();
+        }
+        formatter = DateTimeFormatters.isoZonedDateTime();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void create(Blackhole bh) {
+        for (LocalDateTime ldt : localDateTimes) {
+            bh.consume(ZonedDateTime.of(ldt, zone, ZoneResolvers.postTransition()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void createFromInstant(Blackhole bh) {
+        for (Instant instant : instants) {
+            bh.consume(ZonedDateTime.ofInstant(instant, zone));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public ZonedDateTime[] sort() {
+        ZonedDateTime[] copy = dateTimes.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long query() {
+        long total = 0;
+        for (ZonedDateTime dt : dateTimes) {
+            total += dt.getYear();
+            total += dt.getMonthOfYear().getValue();
+            total += dt.getDayOfMonth();
+            total += dt.getHourOfDay();
+            total += dt.getMinuteOfHour();
+            total += dt.getSecondOfMinute();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void format(Blackhole bh) {
+        for (ZonedDateTime dt : dateTimes) {
+            bh.consume(formatter.print(dt));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long derive() {
+        long total = 0;
+        for (ZonedDateTime dt : dateTimes) {
+            total += dt.get(YEAR).getValue();
+            total += dt.get(MONTH_OF_YEAR).getValue();
+            total += dt.get(DAY_OF_MONTH).getValue();
+            total += dt.get(HOUR_OF_DAY).getValue();
+            total += dt.get(MINUTE_OF_HOUR).getValue();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void plusHours(Blackhole bh) {
+        for (ZonedDateTime dt : dateTimes) {
+            bh.consume(dt.plusHours(13));
+        }
+    }
+
+}
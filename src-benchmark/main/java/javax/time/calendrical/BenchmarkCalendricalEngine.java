@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendrical;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.time.AmPmOfDay;
+import javax.time.DayOfWeek;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.MonthDay;
+import javax.time.OffsetDate;
+import javax.time.OffsetDateTime;
+import javax.time.QuarterOfYear;
+import javax.time.Year;
+import javax.time.YearMonth;
+import javax.time.ZoneOffset;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for {@code CalendricalEngine.derive}, as called from {@code get(CalendricalRule)}.
+ * <p>
+ * Each operation derives a rule that is not a simple field of the value type.
+ * Run with {@code -prof gc} to see the allocation rate, reported as
+ * {@code gc.alloc.rate.norm} in bytes per derivation.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BenchmarkCalendricalEngine {
+
+    /** Size. */
+    static final int SIZE = 1000;
+
+    /** The dates. */
+    private LocalDate[] dates = new LocalDate[SIZE];
+    /** The date-times. */
+    private LocalDateTime[] dateTimes = new LocalDateTime[SIZE];
+    /** The offset date-times. */
+    private OffsetDateTime[] offsetDateTimes = new OffsetDateTime[SIZE];
+
+    /**
+     * Sets up the random data.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(47658758756875687L);
+        for (int i = 0; i < SIZE; i++) {
+            dateTimes[i] = LocalDateTime.of(
+                    random.nextInt(10000), random.nextInt(12) + 1, random.nextInt(28) + 1,
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60));
+            dates[i] = dateTimes[i].toLocalDate();
+            offsetDateTimes[i] = dateTimes[i].atOffset(ZoneOffset.ofHours(random.nextInt(24) - 12));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void dateToYear(Blackhole bh) {
+        for (LocalDate date : dates) {
+            bh.consume(date.get(Year.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void dateToDayOfWeek(Blackhole bh) {
+        for (LocalDate date : dates) {
+            bh.consume(date.get(DayOfWeek.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void dateToYearMonth(Blackhole bh) {
+        for (LocalDate date : dates) {
+            bh.consume(date.get(YearMonth.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void dateToLocalDateTime(Blackhole bh) {
+        for (LocalDate date : dates) {
+            bh.consume(date.get(LocalDateTime.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void dateTimeToMonthDay(Blackhole bh) {
+        for (LocalDateTime dt : dateTimes) {
+            bh.consume(dt.get(MonthDay.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void dateTimeToAmPmOfDay(Blackhole bh) {
+        for (LocalDateTime dt : dateTimes) {
+            bh.consume(dt.get(AmPmOfDay.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void dateTimeToOffsetDate(Blackhole bh) {
+        for (LocalDateTime dt : dateTimes) {
+            bh.consume(dt.get(OffsetDate.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void offsetDateTimeToQuarterOfYear(Blackhole bh) {
+        for (OffsetDateTime odt : offsetDateTimes) {
+            bh.consume(odt.get(QuarterOfYear.rule()));
+        }
+    }
+
+}
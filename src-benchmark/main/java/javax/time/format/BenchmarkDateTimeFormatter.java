@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+
+import java.io.CharArrayWriter;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+import javax.time.calendrical.ZoneResolvers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for {@code DateTimeFormatter} parsing.
+ * <p>
+ * Each operation parses an array of random texts, with the reported
+ * score being the average time for a single parse.
+ * The zoned texts use a mix of time-zones, as the cost of matching the zone
+ * depends on the length of its ID.
+ * The pattern lookup benchmark measures obtaining a formatter from a pattern
+ * string, as done by code that formats with a pattern on each request.
+ * The writer benchmarks compare printing each value to a {@code Writer}
+ * with printing all the values in bulk.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BenchmarkDateTimeFormatter {
+
+    /** Size. */
+    static final int SIZE = 1000;
+    /** Typical time-zones. */
+    private static final String[] ZONES = {
+        "Europe/London", "America/New_York", "Asia/Tokyo", "Australia/Sydney",
+        "America/Argentina/Buenos_Aires", "Etc/GMT+10", "UTC", "Pacific/Auckland",
+    };
+    /** Typical patterns. */
+    private static final String[] PATTERNS = {
+        "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd", "HH:mm:ss.SSS", "d MMM yyyy", "yyyy-MM-dd'T'HH:mm:ssXXX",
+    };
+
+    /** The formatter for yyyy-MM-dd HH:mm:ss. */
+    private DateTimeFormatter patternFormatter;
+    /** The date-times to print. */
+    private LocalDateTime[] dateTimes = new LocalDateTime[SIZE];
+    /** The epoch-days of the date-times. */
+    private long[] epochDays = new long[SIZE];
+    /** The executor for parallel parsing. */
+    private ExecutorService executor;
+    /** The writer for bulk output. */
+    private CharArrayWriter writer = new CharArrayWriter(SIZE * 32);
+    /** The ISO local date texts. */
+    private String[] localDateTexts = new String[SIZE];
+    /** The ISO local time texts. */
+    private String[] localTimeTexts = new String[SIZE];
+    /** The ISO local date-time texts. */
+    private String[] localDateTimeTexts = new String[SIZE];
+    /** The ISO offset date-time texts. */
+    private String[] offsetDateTimeTexts = new String[SIZE];
+    /** The ISO zoned date-time texts. */
+    private String[] zonedDateTimeTexts = new String[SIZE];
+    /** The zone ID texts. */
+    private String[] zoneIdTexts = new String[SIZE];
+    /** The formatter for zone IDs. */
+    private DateTimeFormatter zoneIdFormatter;
+    /** The pattern texts. */
+    private String[] patternTexts = new String[SIZE];
+    /** The patterns to look up. */
+    private String[] patterns = new String[SIZE];
+
+    /**
+     * Sets up the random data.
+     */
+    @Setup
+    public void setUp() {
+        patternFormatter = DateTimeFormatters.pattern("yyyy-MM-dd HH:mm:ss");
+        zoneIdFormatter = new DateTimeFormatterBuilder().appendZoneId().toFormatter();
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        Random random = new Random(47658758756875687L);
+        for (int i = 0; i < SIZE; i++) {
+            LocalDateTime ldt = LocalDateTime.of(
+                    random.nextInt(70) + 1970, random.nextInt(12) + 1, random.nextInt(28) + 1,
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000) * 1000000);
+            ZoneId zone = ZoneId.of(ZONES[random.nextInt(ZONES.length)]);
+            ZonedDateTime zdt = ZonedDateTime.of(ldt, zone, ZoneResolvers.postTransition());
+            dateTimes[i] = ldt;
+            epochDays[i] = ldt.toLocalDate().toEpochDay();
+            localDateTexts[i] = DateTimeFormatters.isoLocalDate().print(ldt);
+            localTimeTexts[i] = DateTimeFormatters.isoLocalTime().print(ldt);
+            localDateTimeTexts[i] = DateTimeFormatters.isoLocalDateTime().print(ldt);
+            offsetDateTimeTexts[i] = DateTimeFormatters.isoOffsetDateTime().print(zdt);
+            zonedDateTimeTexts[i] = DateTimeFormatters.isoZonedDateTime().print(zdt);
+            zoneIdTexts[i] = zone.getID();
+            patternTexts[i] = patternFormatter.print(ldt);
+            patterns[i] = PATTERNS[random.nextInt(PATTERNS.length)];
+        }
+    }
+
+    /**
+     * Stops the executor.
+     */
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseLocalDate(Blackhole bh) {
+        DateTimeFormatter formatter = DateTimeFormatters.isoLocalDate();
+        for (String text : localDateTexts) {
+            bh.consume(formatter.parse(text, LocalDate.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseAllLocalDate(Blackhole bh) {
+        bh.consume(DateTimeFormatters.isoLocalDate().parseAll(localDateTexts, LocalDate.rule()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseAllLocalDateParallel(Blackhole bh) {
+        bh.consume(DateTimeFormatters.isoLocalDate().parseAll(localDateTexts, LocalDate.rule(), executor));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseLocalTime(Blackhole bh) {
+        DateTimeFormatter formatter = DateTimeFormatters.isoLocalTime();
+        for (String text : localTimeTexts) {
+            bh.consume(formatter.parse(text, LocalTime.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseLocalDateTime(Blackhole bh) {
+        DateTimeFormatter formatter = DateTimeFormatters.isoLocalDateTime();
+        for (String text : localDateTimeTexts) {
+            bh.consume(formatter.parse(text, LocalDateTime.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseOffsetDateTime(Blackhole bh) {
+        DateTimeFormatter formatter = DateTimeFormatters.isoOffsetDateTime();
+        for (String text : offsetDateTimeTexts) {
+            bh.consume(formatter.parse(text, OffsetDateTime.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseZonedDateTime(Blackhole bh) {
+        DateTimeFormatter formatter = DateTimeFormatters.isoZonedDateTime();
+        for (String text : zonedDateTimeTexts) {
+            bh.consume(formatter.parse(text, ZonedDateTime.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseZoneId(Blackhole bh) {
+        for (String text : zoneIdTexts) {
+            bh.consume(zoneIdFormatter.parse(text, ZoneId.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseEpochDay(Blackhole bh) {
+        DateTimeFormatter formatter = DateTimeFormatters.isoLocalDate();
+        for (String text : localDateTexts) {
+            bh.consume(formatter.parseEpochDay(text));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseEpochSecondPattern(Blackhole bh) {
+        for (String text : patternTexts) {
+            bh.consume(patternFormatter.parseEpochSecond(text, ZoneOffset.UTC, null));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseToContextLocalDate(Blackhole bh) {
+        DateTimeFormatter formatter = DateTimeFormatters.isoLocalDate();
+        for (String text : localDateTexts) {
+            DateTimeParseContext context = formatter.parseToContext(text, new ParsePosition(0));
+            bh.consume(context.getParsed(DAY_OF_MONTH).getValue());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseToContextLocalDateReused(Blackhole bh) {
+        DateTimeFormatter formatter = DateTimeFormatters.isoLocalDate();
+        DateTimeParseContext context = formatter.createParseContext();
+        for (String text : localDateTexts) {
+            formatter.parseToContext(text, 0, context);
+            bh.consume(context.getParsedValue(DAY_OF_MONTH));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parsePattern(Blackhole bh) {
+        for (String text : patternTexts) {
+            bh.consume(patternFormatter.parse(text, LocalDateTime.rule()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void printLocalDate(Blackhole bh) {
+        DateTimeFormatter formatter = DateTimeFormatters.isoLocalDate();
+        for (LocalDateTime dateTime : dateTimes) {
+            bh.consume(formatter.print(dateTime.toLocalDate()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void printPattern(Blackhole bh) {
+        for (LocalDateTime dateTime : dateTimes) {
+            bh.consume(patternFormatter.print(dateTime));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void printToWriter(Blackhole bh) {
+        writer.reset();
+        for (LocalDateTime dateTime : dateTimes) {
+            patternFormatter.printTo(dateTime, writer);
+            writer.append('\n');
+        }
+        bh.consume(writer.size());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void printAllToWriter(Blackhole bh) {
+        writer.reset();
+        patternFormatter.printAllTo(dateTimes, "\n", writer);
+        bh.consume(writer.size());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void printEpochDaysToWriter(Blackhole bh) {
+        writer.reset();
+        DateTimeFormatters.isoLocalDate().printEpochDaysTo(epochDays, "\n", writer);
+        bh.consume(writer.size());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void lookupPattern(Blackhole bh) {
+        for (String pattern : patterns) {
+            bh.consume(DateTimeFormatters.pattern(pattern, Locale.UK));
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@code ResourceZoneRulesDataProvider}.
+ * <p>
+ * Each operation loads the provider and then the rules of a single region,
+ * as a service using a handful of regions would at startup.
+ * The source parameter selects between reading the file from a jar and
+ * memory-mapping a copy of the file.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BenchmarkResourceZoneRulesDataProvider {
+
+    /** The resource. */
+    private static final String RESOURCE = "javax/time/calendar/zone/ZoneRules.dat";
+
+    /** The source of the file. */
+    @Param({"jar", "file"})
+    public String source;
+
+    /** The URL to load. */
+    private URL url;
+    /** The copied file. */
+    private File file;
+
+    /**
+     * Sets up the file to load.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        url = Thread.currentThread().getContextClassLoader().getResource(RESOURCE);
+        if (url == null) {
+            throw new IllegalStateException("Missing resource: " + RESOURCE);
+        }
+        if ("file".equals(source)) {
+            file = File.createTempFile("ZoneRules", ".dat");
+            InputStream in = url.openStream();
+            try {
+                OutputStream out = new FileOutputStream(file);
+                try {
+                    byte[] buf = new byte[8192];
+                    int len;
+                    while ((len = in.read(buf)) > 0) {
+                        out.write(buf, 0, len);
+                    }
+                } finally {
+                    out.close();
+                }
+            } finally {
+                in.close();
+            }
+            url = file.toURI().toURL();
+        }
+    }
+
+    /**
+     * Removes the copied file.
+     */
+    @TearDown
+    public void tearDown() {
+        if (file != null) {
+            file.delete();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public ZoneRules loadAndLookup() throws Exception {
+        ResourceZoneRulesDataProvider provider = new ResourceZoneRulesDataProvider(url);
+        ZoneRulesVersion latest = null;
+        for (ZoneRulesVersion version : provider.getVersions()) {
+            if (latest == null || version.getVersionID().compareTo(latest.getVersionID()) > 0) {
+                latest = version;
+            }
+        }
+        return latest.getZoneRules("Europe/London");
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.time.Instant;
+import javax.time.LocalDateTime;
+import javax.time.ZoneId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for {@code StandardZoneRules}.
+ * <p>
+ * Each operation is applied to an array of random instants or local date-times
+ * within the specified year, with the reported score being the average time
+ * for a single lookup.
+ * The year parameter selects between the historic transitions and the
+ * transition rules used after the last historic transition, with the final
+ * year lying beyond the years held in the precomputed offset table.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BenchmarkStandardZoneRules {
+
+    /** Size. */
+    static final int SIZE = 1000;
+
+    /** The time-zone. */
+    @Param({"Europe/London", "America/New_York"})
+    public String zoneId;
+    /** The year. */
+    @Param({"1980", "2012", "2030", "2150"})
+    public int year;
+
+    /** The rules. */
+    private ZoneRules rules;
+    /** The instants. */
+    private Instant[] instants = new Instant[SIZE];
+    /** The local date-times. */
+    private LocalDateTime[] localDateTimes = new LocalDateTime[SIZE];
+
+    /**
+     * Sets up the random data.
+     */
+    @Setup
+    public void setUp() {
+        rules = ZoneId.of(zoneId).getRules();
+        if (rules instanceof StandardZoneRules == false) {
+            throw new IllegalStateException("Expected StandardZoneRules: " + rules.getClass());
+        }
+        Random random = new Random(47658758756875687L);
+        for (int i = 0; i < SIZE; i++) {
+            localDateTimes[i] = LocalDateTime.of(
+                    year, random.nextInt(12) + 1, random.nextInt(28) + 1,
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60));
+            instants[i] = localDateTimes[i].atOffset(rules.getOffsetInfo(localDateTimes[i]).getEstimatedOffset()).toInstant();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getOffset(Blackhole bh) {
+        for (Instant instant : instants) {
+            bh.consume(rules.getOffset(instant));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getOffsetInfo(Blackhole bh) {
+        for (LocalDateTime ldt : localDateTimes) {
+            bh.consume(rules.getOffsetInfo(ldt));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getRulesAndOffset(Blackhole bh) {
+        ZoneId zone = ZoneId.of(zoneId);
+        for (Instant instant : instants) {
+            bh.consume(zone.getRules().getOffset(instant));
+        }
+    }
+
+}
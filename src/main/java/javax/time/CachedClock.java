@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.time.format.DateTimeFormatter;
+
+/**
+ * A clock that caches the current date and time, updated by a background ticker.
+ * <p>
+ * Hot paths, such as request logging, often query the clock far more frequently
+ * than the value they need changes. This clock queries an underlying clock once
+ * per tick of a configurable granularity, such as one millisecond or one second,
+ * and precomputes the instant, date, time, date-times and, optionally, a formatted string.
+ * These are published together as an immutable snapshot in a volatile field,
+ * so each query costs a single memory read and creates no objects.
+ * <p>
+ * The values returned lag the underlying clock by up to the granularity.
+ * The clock must be stopped using {@link #stop()} when no longer required,
+ * after which queries are passed directly to the underlying clock.
+ * <p>
+ * The methods {@code withSource()} and {@code withZone()} are not supported,
+ * as each cached clock has its own ticker.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+public final class CachedClock extends Clock {
+
+    /**
+     * The underlying clock.
+     */
+    private final Clock clock;
+    /**
+     * The granularity of the ticks.
+     */
+    private final Duration granularity;
+    /**
+     * The formatter for the formatted string, null if none.
+     */
+    private final DateTimeFormatter formatter;
+    /**
+     * The executor running the ticker.
+     */
+    private final ScheduledExecutorService executor;
+    /**
+     * The scheduled ticker.
+     */
+    private final ScheduledFuture<?> ticker;
+    /**
+     * The current snapshot, null if stopped or the underlying clock failed.
+     */
+    private volatile Snapshot snapshot;
+    /**
+     * Whether the clock has been stopped.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * Starts a clock caching the values from the underlying clock.
+     * <p>
+     * A daemon thread is started to update the cached values.
+     *
+     * @param clock  the underlying clock, not null
+     * @param granularity  the interval between updates, positive
+     * @return the started clock, not null
+     * @throws IllegalArgumentException if the granularity is not positive
+     */
+    public static CachedClock start(Clock clock, Duration granularity) {
+        return start(clock, granularity, null);
+    }
+
+    /**
+     * Starts a clock caching the values from the underlying clock, including
+     * the current date-time formatted with the specified formatter.
+     * <p>
+     * A daemon thread is started to update the cached values.
+     * The formatter is used to print the current {@code ZonedDateTime} once per tick.
+     *
+     * @param clock  the underlying clock, not null
+     * @param granularity  the interval between updates, positive
+     * @param formatter  the formatter for {@link #formatted()}, null if not required
+     * @return the started clock, not null
+     * @throws IllegalArgumentException if the granularity is not positive
+     */
+    public static CachedClock start(Clock clock, Duration granularity, DateTimeFormatter formatter) {
+        MathUtils.checkNotNull(clock, "Clock must not be null");
+        MathUtils.checkNotNull(granularity, "Duration must not be null");
+        if (granularity.isPositive() == false) {
+            throw new IllegalArgumentException("Granularity must be positive: " + granularity);
+        }
+        final String name = "CachedClock-" + clock.getZone();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        return new CachedClock(clock, granularity, formatter, executor);
+    }
+
+    /**
+     * Constructor, computing the first snapshot and scheduling the ticker.
+     *
+     * @param clock  the underlying clock, not null
+     * @param granularity  the interval between updates, positive
+     * @param formatter  the formatter, null if none
+     * @param executor  the executor to run the ticker, shutdown when stopped, not null
+     */
+    private CachedClock(Clock clock, Duration granularity, DateTimeFormatter formatter, ScheduledExecutorService executor) {
+        this.clock = clock;
+        this.granularity = granularity;
+        this.formatter = formatter;
+        this.executor = executor;
+        this.snapshot = new Snapshot(clock, formatter);
+        long nanos = granularity.toNanosLong();
+        this.ticker = executor.scheduleAtFixedRate(new Runnable() {
+            public void run() {
+                tick();
+            }
+        }, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Updates the snapshot from the underlying clock.
+     */
+    void tick() {
+        Snapshot updated = null;
+        try {
+            updated = new Snapshot(clock, formatter);
+        } catch (RuntimeException ex) {
+            // leave null, so that queries use the underlying clock and report the error
+        }
+        snapshot = updated;
+        if (stopped) {
+            snapshot = null;  // stopped during the tick
+        }
+    }
+
+    /**
+     * Stops the ticker.
+     * <p>
+     * Once stopped, all queries are passed directly to the underlying clock.
+     */
+    public void stop() {
+        stopped = true;
+        ticker.cancel(false);
+        executor.shutdown();
+        snapshot = null;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the underlying clock.
+     *
+     * @return the underlying clock, not null
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the granularity of the updates.
+     *
+     * @return the interval between updates, not null
+     */
+    public Duration getGranularity() {
+        return granularity;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TimeSource getSource() {
+        return clock.getSource();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    //-----------------------------------------------------------------------
+    /** {@inheritDoc} */
+    @Override
+    public Instant instant() {
+        Snapshot snap = snapshot;
+        return snap != null ? snap.instant : clock.instant();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalDate today() {
+        Snapshot snap = snapshot;
+        return snap != null ? snap.dateTime.toLocalDate() : clock.today();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalTime time() {
+        Snapshot snap = snapshot;
+        return snap != null ? snap.dateTime.toLocalTime() : clock.time();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalDateTime dateTime() {
+        Snapshot snap = snapshot;
+        return snap != null ? snap.dateTime : clock.dateTime();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalDateTime dateTimeToSecond() {
+        Snapshot snap = snapshot;
+        return snap != null ? snap.dateTimeToSecond : clock.dateTimeToSecond();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public OffsetDateTime offsetDateTime() {
+        Snapshot snap = snapshot;
+        return snap != null ? snap.zonedDateTime.toOffsetDateTime() : clock.offsetDateTime();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ZonedDateTime zonedDateTime() {
+        Snapshot snap = snapshot;
+        return snap != null ? snap.zonedDateTime : clock.zonedDateTime();
+    }
+
+    /**
+     * Gets the current date-time formatted using the formatter of this clock.
+     *
+     * @return the formatted current date-time, not null
+     * @throws UnsupportedOperationException if this clock has no formatter
+     */
+    public String formatted() {
+        if (formatter == null) {
+            throw new UnsupportedOperationException("CachedClock has no formatter");
+        }
+        Snapshot snap = snapshot;
+        return snap != null ? snap.formatted : formatter.print(clock.zonedDateTime());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a string describing this clock.
+     *
+     * @return a string representation, not null
+     */
+    @Override
+    public String toString() {
+        return "CachedClock[" + clock + ", " + granularity + ']';
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An immutable snapshot of the current values.
+     */
+    static final class Snapshot {
+        /** The instant. */
+        final Instant instant;
+        /** The zoned date-time. */
+        final ZonedDateTime zonedDateTime;
+        /** The local date-time. */
+        final LocalDateTime dateTime;
+        /** The local date-time truncated to the second. */
+        final LocalDateTime dateTimeToSecond;
+        /** The formatted date-time, null if no formatter. */
+        final String formatted;
+
+        /**
+         * Constructor.
+         *
+         * @param clock  the clock to query, not null
+         * @param formatter  the formatter, null if none
+         */
+        Snapshot(Clock clock, DateTimeFormatter formatter) {
+            instant = clock.instant();
+            zonedDateTime = ZonedDateTime.ofInstant(instant, clock.getZone());
+            dateTime = zonedDateTime.toLocalDateTime();
+            dateTimeToSecond = dateTime.withNanoOfSecond(0);
+            formatted = (formatter != null ? formatter.print(zonedDateTime) : null);
+        }
+    }
+
+}
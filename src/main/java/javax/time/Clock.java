@@ -34,6 +34,9 @@ package javax.time;
 import java.io.Serializable;
 import java.util.TimeZone;
 
+import javax.time.zone.ZoneOffsetTransition;
+import javax.time.zone.ZoneRules;
+
 /**
  * A clock providing access to the current date and time.
  * <p>
@@ -567,6 +570,8 @@ public abstract class Clock {
         private final TimeSource timeSource;
         /** The time-zone being used. */
         private final ZoneId zone;
+        /** The offset last resolved from the zone, with the instants it remains valid for. */
+        private transient volatile OffsetWindow window;
 
         /** Restricted constructor. */
         private TimeSourceClock(TimeSource timeSource, ZoneId zone) {
@@ -574,6 +579,82 @@ public abstract class Clock {
             this.zone = zone;
         }
 
+        /**
+         * Gets the offset of the zone at the specified instant.
+         * <p>
+         * The offset only changes at a transition, thus the last offset found is
+         * reused until the instant leaves the window between two transitions.
+         * The window is also discarded if the rules for the zone are replaced.
+         *
+         * @param instant  the instant to find the offset for, not null
+         * @return the offset, not null
+         */
+        ZoneOffset offset(Instant instant) {
+            ZoneRules rules = zone.getRules();  // latest rules version
+            long epochSecond = instant.getEpochSecond();
+            OffsetWindow cached = window;
+            if (cached != null && cached.rules == rules &&
+                    epochSecond >= cached.startEpochSecond && epochSecond < cached.endEpochSecond) {
+                return cached.offset;
+            }
+            cached = OffsetWindow.of(rules, instant);
+            window = cached;
+            return cached.offset;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public LocalDate today() {
+            Instant now = instant();
+            long localSeconds = now.getEpochSecond() + offset(now).getTotalSeconds();  // overflow caught later
+            long yearZeroDay = MathUtils.floorDiv(localSeconds, MathUtils.SECONDS_PER_DAY) + LocalDate.DAYS_0000_TO_1970;
+            return LocalDate.ofYearZeroDay(yearZeroDay);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public LocalTime time() {
+            Instant now = instant();
+            long localSeconds = now.getEpochSecond() + offset(now).getTotalSeconds();  // overflow caught later
+            return LocalTime.ofSecondOfDay(MathUtils.floorMod(localSeconds, MathUtils.SECONDS_PER_DAY), now.getNanoOfSecond());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public LocalDateTime dateTime() {
+            Instant now = instant();
+            long localSeconds = now.getEpochSecond() + offset(now).getTotalSeconds();  // overflow caught later
+            return LocalDateTime.create(localSeconds, now.getNanoOfSecond());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public OffsetDate offsetDate() {
+            Instant now = instant();
+            return OffsetDate.ofInstant(now, offset(now));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public OffsetTime offsetTime() {
+            Instant now = instant();
+            return OffsetTime.ofInstant(now, offset(now));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public OffsetDateTime offsetDateTime() {
+            Instant now = instant();
+            return OffsetDateTime.ofInstant(now, offset(now));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ZonedDateTime zonedDateTime() {
+            Instant now = instant();
+            return ZonedDateTime.create(OffsetDateTime.ofInstant(now, offset(now)), zone);
+        }
+
         /** {@inheritDoc} */
         @Override
         public TimeSource getSource() {
@@ -634,4 +715,55 @@ public abstract class Clock {
             return "TimeSourceClock[" + timeSource + ", " + zone + ']';
         }
     }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An offset together with the range of epoch seconds that it applies to.
+     * <p>
+     * The range runs from the instant the offset was resolved for, or the transition
+     * before it, inclusive, to the next transition, exclusive.
+     * This class is immutable and thread-safe.
+     */
+    static final class OffsetWindow {
+        /** The rules the offset was resolved from. */
+        final ZoneRules rules;
+        /** The offset. */
+        final ZoneOffset offset;
+        /** The first epoch second that the offset applies to, inclusive. */
+        final long startEpochSecond;
+        /** The epoch second of the next transition, exclusive. */
+        final long endEpochSecond;
+
+        /** Restricted constructor. */
+        private OffsetWindow(ZoneRules rules, ZoneOffset offset, long startEpochSecond, long endEpochSecond) {
+            this.rules = rules;
+            this.offset = offset;
+            this.startEpochSecond = startEpochSecond;
+            this.endEpochSecond = endEpochSecond;
+        }
+
+        /**
+         * Resolves the offset window surrounding the specified instant.
+         *
+         * @param rules  the rules to query, not null
+         * @param instant  the instant to find the offset for, not null
+         * @return the offset window, not null
+         */
+        static OffsetWindow of(ZoneRules rules, Instant instant) {
+            ZoneOffset offset = rules.getOffset(instant);
+            if (rules.isFixedOffset()) {
+                return new OffsetWindow(rules, offset, Long.MIN_VALUE, Long.MAX_VALUE);
+            }
+            long start = instant.getEpochSecond();
+            ZoneOffsetTransition previous = rules.previousTransition(instant);
+            if (previous == null) {
+                start = Long.MIN_VALUE;
+            } else if (previous.getOffsetAfter().equals(offset)) {
+                start = previous.getInstant().getEpochSecond();
+            }
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            long end = (next != null ? next.getInstant().getEpochSecond() : Long.MAX_VALUE);
+            return new OffsetWindow(rules, offset, start, end);
+        }
+    }
 }
@@ -31,6 +31,7 @@
  */
 package javax.time;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -40,6 +41,7 @@ import javax.time.calendrical.TAIInstant;
 import javax.time.calendrical.UTCInstant;
 import javax.time.calendrical.UTCRules;
 import javax.time.format.CalendricalParseException;
+import javax.time.format.CalendricalPrintException;
 
 /**
  * An instantaneous point on the time-line.
@@ -298,15 +300,21 @@ public final class Instant
      * The seconds are mandatory, but the fractional seconds are optional.
      * There must be no more than 9 digits after the decimal point.
      * The letters (T and Z) will be accepted in upper or lower case.
+     * <p>
+     * Text with a four digit year is parsed directly without creating any
+     * intermediate objects, other forms are parsed using the ISO formatter.
      *
      * @param text  the text to parse, not null
      * @return an instant, not null
      * @throws CalendricalParseException if the text cannot be parsed to an {@code Instant}
      */
     //TODO:The decimal point may be either a dot or a comma.
-    // TODO: optimize and handle big instants
     public static Instant parse(final CharSequence text) {
         MathUtils.checkNotNull(text, "Text to parse must not be null");
+        Instant parsed = parseFast(text);
+        if (parsed != null) {
+            return parsed;
+        }
         int length = text.length();
         if (length < 2) {
             throw new CalendricalParseException("Instant could not be parsed: " + text, text, 0);
@@ -317,6 +325,72 @@ public final class Instant
         return OffsetDateTime.of(LocalDateTime.parse(text.subSequence(0, length - 1)), ZoneOffset.UTC).toInstant();
     }
 
+    /**
+     * Parses the common form {@code yyyy-MM-ddTHH:mm:ss[.SSSSSSSSS]Z} in a single pass.
+     * <p>
+     * Null is returned if the text does not have exactly this form or if any
+     * field is out of range, leaving the full parser to handle it or report the error.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed instant, null if not parsed
+     */
+    private static Instant parseFast(CharSequence text) {
+        int length = text.length();
+        if (length < 20 || length == 21 || length > 30) {
+            return null;
+        }
+        char t = text.charAt(10);
+        char z = text.charAt(length - 1);
+        if (text.charAt(4) != '-' || text.charAt(7) != '-' || (t != 'T' && t != 't') ||
+                text.charAt(13) != ':' || text.charAt(16) != ':' || (z != 'Z' && z != 'z')) {
+            return null;
+        }
+        int year = parseDigits(text, 0, 4);
+        int month = parseDigits(text, 5, 7);
+        int day = parseDigits(text, 8, 10);
+        int hour = parseDigits(text, 11, 13);
+        int min = parseDigits(text, 14, 16);
+        int sec = parseDigits(text, 17, 19);
+        int nanos = 0;
+        if (length > 20) {
+            if (text.charAt(19) != '.') {
+                return null;
+            }
+            nanos = parseDigits(text, 20, length - 1);
+            for (int i = length - 1; i < 29; i++) {
+                nanos *= 10;
+            }
+        }
+        if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 ||
+                min < 0 || min > 59 || sec < 0 || sec > 59 || nanos < 0 ||
+                day > MonthOfYear.of(month).lengthInDays(Year.isLeap(year))) {
+            return null;
+        }
+        long epochDay = LocalDate.toYearZeroDay(year, month, day) - LocalDate.DAYS_0000_TO_1970;
+        long epochSec = epochDay * MathUtils.SECONDS_PER_DAY + hour * 3600 + min * 60 + sec;
+        return create(epochSec, nanos);
+    }
+
+    /**
+     * Parses a run of ASCII digits.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive, at most ten digits after the start
+     * @return the value, -1 if any character is not a digit
+     */
+    private static int parseDigits(CharSequence text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code Instant} using seconds and nanoseconds.
@@ -716,9 +790,57 @@ public final class Instant
      */
     @Override
     public String toString() {
-        // TODO: optimize and handle big instants
+        // TODO: handle big instants
         // TODO: Consider epoch plus offset format instead
-        return OffsetDateTime.ofInstantUTC(this).toLocalDateTime().toString() + 'Z';
+        StringBuilder buf = new StringBuilder(30);
+        appendISO(buf);
+        return buf.toString();
+    }
+
+    /**
+     * Outputs this instant to an {@code Appendable} in the format of {@link #toString()}.
+     * <p>
+     * This avoids creating the {@code String} returned by {@code toString()}.
+     * No objects are created when the appendable is a {@code StringBuilder},
+     * other appendables receive the output in a single call.
+     * <p>
+     * Although {@code Appendable} methods throw an {@code IOException}, this method does not.
+     * Instead, any {@code IOException} is wrapped in a runtime exception.
+     * See {@link CalendricalPrintException#rethrowIOException()} for a means
+     * to extract the {@code IOException}.
+     *
+     * @param appendable  the appendable to output to, not null
+     * @throws CalendricalException if an error occurs during printing
+     */
+    public void printTo(Appendable appendable) {
+        MathUtils.checkNotNull(appendable, "Appendable must not be null");
+        if (appendable instanceof StringBuilder) {
+            appendISO((StringBuilder) appendable);
+        } else {
+            StringBuilder buf = new StringBuilder(30);
+            appendISO(buf);
+            try {
+                appendable.append(buf);
+            } catch (IOException ex) {
+                throw new CalendricalPrintException(ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Appends this instant to the buffer in the format of {@link #toString()}.
+     *
+     * @param buf  the buffer to append to, not null
+     * @throws CalendricalException if the instant exceeds the supported date range
+     */
+    private void appendISO(StringBuilder buf) {
+        long zeroDay = MathUtils.floorDiv(seconds, MathUtils.SECONDS_PER_DAY) + LocalDate.DAYS_0000_TO_1970;
+        int secsOfDay = MathUtils.floorMod(seconds, MathUtils.SECONDS_PER_DAY);
+        long packed = LocalDate.packYearZeroDay(zeroDay);
+        LocalDate.appendISO(buf, (int) (packed >> 9), (int) (packed >> 5) & 15, (int) packed & 31);
+        buf.append('T');
+        LocalTime.appendISO(buf, secsOfDay / 3600, (secsOfDay / 60) % 60, secsOfDay % 60, nanos);
+        buf.append('Z');
     }
 
 }
@@ -278,6 +278,22 @@ public final class LocalDate
      * @throws IllegalCalendarFieldValueException if the epoch days exceeds the supported date range
      */
     static LocalDate ofYearZeroDay(long zeroDay) {
+        long packed = packYearZeroDay(zeroDay);
+        return new LocalDate((int) (packed >> 9), MonthOfYear.of((int) (packed >> 5) & 15), (int) packed & 31);
+    }
+
+    /**
+     * Converts a year zero day count to the year, month and day packed into a {@code long}.
+     * <p>
+     * The year is in the high bits, retrieved by {@code packed >> 9}.
+     * The month-of-year, from 1 to 12, is {@code (packed >> 5) & 15}.
+     * The day-of-month is {@code packed & 31}.
+     *
+     * @param zeroDay  the year zero day count
+     * @return the packed year, month and day
+     * @throws IllegalCalendarFieldValueException if the year is invalid
+     */
+    static long packYearZeroDay(long zeroDay) {
         // find the march-based year
         zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
         long adjust = 0;
@@ -305,7 +321,84 @@ public final class LocalDate
         
         // check year now we are certain it is correct
         int year = YEAR.checkValidIntValue(yearEst);
-        return new LocalDate(year, MonthOfYear.of(month), dom);
+        return (((long) year) << 9) | (month << 5) | dom;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a year, month and day to the epoch day count.
+     * <p>
+     * The Epoch Day count is a simple incrementing count of days
+     * where day 0 is 1970-01-01. Negative numbers represent earlier days.
+     * <p>
+     * This produces the same result as {@code LocalDate.of(year, monthOfYear, dayOfMonth).toEpochDay()}
+     * without creating a date, allowing high volume date arithmetic to use primitives.
+     *
+     * @param year  the year, from MIN_YEAR to MAX_YEAR
+     * @param monthOfYear  the month-of-year, from 1 (January) to 12 (December)
+     * @param dayOfMonth  the day-of-month, from 1 to 31
+     * @return the Epoch Day equivalent to the date
+     * @throws IllegalCalendarFieldValueException if the value of any field is out of range
+     * @throws InvalidCalendarFieldException if the day-of-month is invalid for the month-year
+     */
+    public static long epochDayOf(int year, int monthOfYear, int dayOfMonth) {
+        YEAR.checkValidValue(year);
+        MONTH_OF_YEAR.checkValidValue(monthOfYear);
+        DAY_OF_MONTH.checkValidValue(dayOfMonth);
+        checkValidDayOfMonth(year, MonthOfYear.of(monthOfYear), dayOfMonth);
+        return toYearZeroDay(year, monthOfYear, dayOfMonth) - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Gets the year of the epoch day count.
+     * <p>
+     * This produces the same result as {@code LocalDate.ofEpochDay(epochDay).getYear()}
+     * without creating a date.
+     *
+     * @param epochDay  the Epoch Day to convert, based on the epoch 1970-01-01
+     * @return the year, from MIN_YEAR to MAX_YEAR
+     * @throws IllegalCalendarFieldValueException if the epoch days exceeds the supported date range
+     */
+    public static int yearOfEpochDay(long epochDay) {
+        return (int) (packYearZeroDay(epochDay + DAYS_0000_TO_1970) >> 9);
+    }
+
+    /**
+     * Converts the epoch day count to a date packed as the decimal digits {@code yyyymmdd}.
+     * <p>
+     * For example, 2008-12-31 is returned as the {@code int} 20081231.
+     * The packed form is only defined for years from 0 to 9999.
+     * Each part can be extracted using {@code packed / 10000}, {@code packed / 100 % 100}
+     * and {@code packed % 100}.
+     *
+     * @param epochDay  the Epoch Day to convert, based on the epoch 1970-01-01
+     * @return the date packed as {@code yyyymmdd}
+     * @throws CalendricalException if the year is outside the range 0 to 9999
+     */
+    public static int packedDateOfEpochDay(long epochDay) {
+        long packed = packYearZeroDay(epochDay + DAYS_0000_TO_1970);
+        int year = (int) (packed >> 9);
+        if (year < 0 || year > 9999) {
+            throw new CalendricalException("Unable to pack date as yyyymmdd, year " + year + " is outside the range 0 to 9999");
+        }
+        return year * 10000 + (int) ((packed >> 5) & 15) * 100 + (int) (packed & 31);
+    }
+
+    /**
+     * Converts a date packed as the decimal digits {@code yyyymmdd} to the epoch day count.
+     * <p>
+     * For example, the {@code int} 20081231 represents 2008-12-31.
+     * This is the inverse of {@link #packedDateOfEpochDay(long)}.
+     *
+     * @param packedDate  the date packed as {@code yyyymmdd}, with a year from 0 to 9999
+     * @return the Epoch Day equivalent to the date
+     * @throws CalendricalException if the packed date is negative or does not represent a valid date
+     */
+    public static long epochDayOfPackedDate(int packedDate) {
+        if (packedDate < 0 || packedDate > 99991231) {
+            throw new CalendricalException("Unable to unpack date from yyyymmdd, value " + packedDate + " is outside the range 0 to 99991231");
+        }
+        return epochDayOf(packedDate / 10000, packedDate / 100 % 100, packedDate % 100);
     }
 
     //-----------------------------------------------------------------------
@@ -367,6 +460,19 @@ public final class LocalDate
      * @throws InvalidCalendarFieldException if the day-of-month is invalid for the month-year
      */
     private static LocalDate create(int year, MonthOfYear monthOfYear, int dayOfMonth) {
+        checkValidDayOfMonth(year, monthOfYear, dayOfMonth);
+        return new LocalDate(year, monthOfYear, dayOfMonth);
+    }
+
+    /**
+     * Checks that the day-of-month is valid for the year and month.
+     *
+     * @param year  the year, previously validated
+     * @param monthOfYear  the month-of-year, not null
+     * @param dayOfMonth  the day-of-month, previously validated as from 1 to 31
+     * @throws InvalidCalendarFieldException if the day-of-month is invalid for the month-year
+     */
+    private static void checkValidDayOfMonth(int year, MonthOfYear monthOfYear, int dayOfMonth) {
         if (dayOfMonth > 28 && dayOfMonth > monthOfYear.lengthInDays(Year.isLeap(year))) {
             if (dayOfMonth == 29) {
                 throw new InvalidCalendarFieldException("Invalid date 'February 29' as '" + year + "' is not a leap year", DAY_OF_MONTH);
@@ -374,7 +480,6 @@ public final class LocalDate
                 throw new InvalidCalendarFieldException("Invalid date '" + monthOfYear.name() + " " + dayOfMonth + "'", DAY_OF_MONTH);
             }
         }
-        return new LocalDate(year, monthOfYear, dayOfMonth);
     }
 
     /**
@@ -1311,24 +1416,28 @@ public final class LocalDate
      * @return the year zero days count equal to this date
      */
     long toYearZeroDay() {
-        long y = year;
-        long m = month.getValue();
-        long total = 0;
-        total += 365 * y;
-        if (y >= 0) {
-            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
-        } else {
-            total -= y / -4 - y / -100 + y / -400;
-        }
-        total += ((367 * m - 362) / 12);
-        total += day - 1;
-        if (m > 2) {
-            total--;
-            if (isLeapYear() == false) {
-                total--;
-            }
-        }
-        return total;
+        return toYearZeroDay(year, month.getValue(), day);
+    }
+
+    /**
+     * Converts a valid year, month and day to year zero days.
+     * <p>
+     * This allows callers that have the fields as primitives to avoid creating a date.
+     *
+     * @param year  the year, not validated
+     * @param monthOfYear  the month-of-year, from 1 to 12, not validated
+     * @param dayOfMonth  the day-of-month, not validated
+     * @return the year zero days count equal to the date
+     */
+    static long toYearZeroDay(int year, int monthOfYear, int dayOfMonth) {
+        // count from 0000-03-01 so the leap day is at the end of each year and cycle
+        long marchYear = year - (14 - monthOfYear) / 12;  // January and February belong to the previous year
+        long cycle = MathUtils.floorDiv(marchYear, 400);
+        int yearOfCycle = (int) (marchYear - cycle * 400);  // from 0 to 399
+        int marchMonth0 = (monthOfYear + 9) % 12;
+        int marchDoy0 = (marchMonth0 * 306 + 5) / 10 + dayOfMonth - 1;
+        int dayOfCycle = 365 * yearOfCycle + yearOfCycle / 4 - yearOfCycle / 100 + marchDoy0;
+        return cycle * DAYS_PER_CYCLE + dayOfCycle + 60;
     }
 
     //-----------------------------------------------------------------------
@@ -1419,28 +1528,40 @@ public final class LocalDate
      */
     @Override
     public String toString() {
-        int yearValue = year;
-        int monthValue = month.getValue();
-        int dayValue = day;
-        int absYear = Math.abs(yearValue);
         StringBuilder buf = new StringBuilder(10);
+        appendISO(buf, year, month.getValue(), day);
+        return buf.toString();
+    }
+
+    /**
+     * Appends a date to the buffer in the format of {@link #toString()}.
+     * <p>
+     * This allows callers that have the fields as primitives to avoid creating a date.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param year  the year, valid
+     * @param monthOfYear  the month-of-year, from 1 to 12
+     * @param dayOfMonth  the day-of-month, from 1 to 31
+     */
+    static void appendISO(StringBuilder buf, int year, int monthOfYear, int dayOfMonth) {
+        int absYear = Math.abs(year);
         if (absYear < 1000) {
-            if (yearValue < 0) {
-                buf.append(yearValue - 10000).deleteCharAt(1);
-            } else {
-                buf.append(yearValue + 10000).deleteCharAt(0);
+            if (year < 0) {
+                buf.append('-');
             }
+            buf.append(absYear < 10 ? "000" : (absYear < 100 ? "00" : "0")).append(absYear);
         } else {
-            if (yearValue > 9999) {
+            if (year > 9999) {
                 buf.append('+');
             }
-            buf.append(yearValue);
+            buf.append(year);
         }
-        return buf.append(monthValue < 10 ? "-0" : "-")
-            .append(monthValue)
-            .append(dayValue < 10 ? "-0" : "-")
-            .append(dayValue)
-            .toString();
+        buf.append('-')
+            .append((char) ('0' + monthOfYear / 10))
+            .append((char) ('0' + monthOfYear % 10))
+            .append('-')
+            .append((char) ('0' + dayOfMonth / 10))
+            .append((char) ('0' + dayOfMonth % 10));
     }
 
     /**
@@ -39,6 +39,7 @@ import static javax.time.MathUtils.NANOS_PER_MINUTE;
 import static javax.time.MathUtils.NANOS_PER_SECOND;
 import static javax.time.MathUtils.SECONDS_PER_DAY;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 import javax.time.calendrical.Calendrical;
@@ -55,6 +56,7 @@ import javax.time.calendrical.TimeAdjuster;
 import javax.time.calendrical.ZoneResolver;
 import javax.time.calendrical.ZoneResolvers;
 import javax.time.format.CalendricalParseException;
+import javax.time.format.CalendricalPrintException;
 import javax.time.format.DateTimeFormatter;
 import javax.time.format.DateTimeFormatters;
 
@@ -1740,7 +1742,50 @@ public final class LocalDateTime
      */
     @Override
     public String toString() {
-        return date.toString() + 'T' + time.toString();
+        StringBuilder buf = new StringBuilder(29);
+        appendISO(buf);
+        return buf.toString();
+    }
+
+    /**
+     * Outputs this date-time to an {@code Appendable} in the format of {@link #toString()}.
+     * <p>
+     * This avoids creating the {@code String} returned by {@code toString()}.
+     * No objects are created when the appendable is a {@code StringBuilder},
+     * other appendables receive the output in a single call.
+     * <p>
+     * Although {@code Appendable} methods throw an {@code IOException}, this method does not.
+     * Instead, any {@code IOException} is wrapped in a runtime exception.
+     * See {@link CalendricalPrintException#rethrowIOException()} for a means
+     * to extract the {@code IOException}.
+     *
+     * @param appendable  the appendable to output to, not null
+     * @throws CalendricalException if an error occurs during printing
+     */
+    public void printTo(Appendable appendable) {
+        MathUtils.checkNotNull(appendable, "Appendable must not be null");
+        if (appendable instanceof StringBuilder) {
+            appendISO((StringBuilder) appendable);
+        } else {
+            StringBuilder buf = new StringBuilder(29);
+            appendISO(buf);
+            try {
+                appendable.append(buf);
+            } catch (IOException ex) {
+                throw new CalendricalPrintException(ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Appends this date-time to the buffer in the format of {@link #toString()}.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    void appendISO(StringBuilder buf) {
+        LocalDate.appendISO(buf, date.getYear(), date.getMonthOfYear().getValue(), date.getDayOfMonth());
+        buf.append('T');
+        LocalTime.appendISO(buf, time.getHourOfDay(), time.getMinuteOfHour(), time.getSecondOfMinute(), time.getNanoOfSecond());
     }
 
     /**
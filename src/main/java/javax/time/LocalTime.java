@@ -960,26 +960,60 @@ public final class LocalTime
     @Override
     public String toString() {
         StringBuilder buf = new StringBuilder(18);
-        int hourValue = hour;
-        int minuteValue = minute;
-        int secondValue = second;
-        int nanoValue = nano;
-        buf.append(hourValue < 10 ? "0" : "").append(hourValue)
-            .append(minuteValue < 10 ? ":0" : ":").append(minuteValue);
-        if (secondValue > 0 || nanoValue > 0) {
-            buf.append(secondValue < 10 ? ":0" : ":").append(secondValue);
-            if (nanoValue > 0) {
+        appendISO(buf, hour, minute, second, nano);
+        return buf.toString();
+    }
+
+    /**
+     * Appends a time to the buffer in the format of {@link #toString()}.
+     * <p>
+     * This allows callers that have the fields as primitives to avoid creating a time.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param hourOfDay  the hour-of-day, from 0 to 23
+     * @param minuteOfHour  the minute-of-hour, from 0 to 59
+     * @param secondOfMinute  the second-of-minute, from 0 to 59
+     * @param nanoOfSecond  the nano-of-second, from 0 to 999,999,999
+     */
+    static void appendISO(StringBuilder buf, int hourOfDay, int minuteOfHour, int secondOfMinute, int nanoOfSecond) {
+        buf.append((char) ('0' + hourOfDay / 10))
+            .append((char) ('0' + hourOfDay % 10))
+            .append(':')
+            .append((char) ('0' + minuteOfHour / 10))
+            .append((char) ('0' + minuteOfHour % 10));
+        if (secondOfMinute > 0 || nanoOfSecond > 0) {
+            buf.append(':')
+                .append((char) ('0' + secondOfMinute / 10))
+                .append((char) ('0' + secondOfMinute % 10));
+            if (nanoOfSecond > 0) {
                 buf.append('.');
-                if (nanoValue % 1000000 == 0) {
-                    buf.append(Integer.toString((nanoValue / 1000000) + 1000).substring(1));
-                } else if (nanoValue % 1000 == 0) {
-                    buf.append(Integer.toString((nanoValue / 1000) + 1000000).substring(1));
+                if (nanoOfSecond % 1000000 == 0) {
+                    appendPadded(buf, nanoOfSecond / 1000000, 3);
+                } else if (nanoOfSecond % 1000 == 0) {
+                    appendPadded(buf, nanoOfSecond / 1000, 6);
                 } else {
-                    buf.append(Integer.toString((nanoValue) + 1000000000).substring(1));
+                    appendPadded(buf, nanoOfSecond, 9);
                 }
             }
         }
-        return buf.toString();
+    }
+
+    /**
+     * Appends a positive value padded with leading zeroes.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param value  the value to append, zero or greater
+     * @param width  the width to pad to
+     */
+    private static void appendPadded(StringBuilder buf, int value, int width) {
+        int digits = 1;
+        for (int remaining = value; remaining >= 10; remaining /= 10) {
+            digits++;
+        }
+        for (int i = digits; i < width; i++) {
+            buf.append('0');
+        }
+        buf.append(value);
     }
 
     /**
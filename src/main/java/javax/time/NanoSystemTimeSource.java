@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A time-source that obtains the current instant with nanosecond resolution
+ * using {@link System#nanoTime()}.
+ * <p>
+ * The system millisecond clock is read once, aligned to the moment it ticks,
+ * to anchor the instant. The instant then advances using {@code System.nanoTime()},
+ * giving a resolution suitable for ordering events microseconds apart.
+ * <p>
+ * The anchor is re-checked against the system millisecond clock once a second
+ * to bound drift. If this time-source is found to be behind, it steps forward.
+ * If it is found to be ahead, it runs slow by one part in a thousand until the
+ * difference is removed, so that the instant returned never goes backwards.
+ * The estimated error of the calibration is available from {@link #getCalibrationError()}.
+ * <p>
+ * Drift of less than a millisecond cannot be detected, as the system clock has
+ * at best millisecond resolution.
+ * <p>
+ * This class is a singleton obtained from {@link TimeSource#nanoSystem()}.
+ * It is thread-safe, with the calibration held as an immutable snapshot.
+ * The returned implementation is {@code Serializable}.
+ *
+ * @author Stephen Colebourne
+ */
+public final class NanoSystemTimeSource extends TimeSource implements Serializable {
+
+    /**
+     * Singleton instance.
+     */
+    static final NanoSystemTimeSource INSTANCE = new NanoSystemTimeSource();
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * The nanoseconds between checks against the system millisecond clock.
+     */
+    static final long RESYNC_NANOS = 1000000000L;
+    /**
+     * The divisor of elapsed time defining the rate that a time-source found to be ahead slows by.
+     */
+    static final int SLEW_DIVISOR = 1000;
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final long NANOS_PER_MILLI = 1000000L;
+    /**
+     * The maximum nanoseconds to wait for the system millisecond clock to tick.
+     */
+    private static final long MAX_ALIGN_NANOS = 50000000L;
+
+    /**
+     * The current calibration.
+     */
+    private final transient AtomicReference<Calibration> calibration =
+            new AtomicReference<Calibration>(Calibration.initial());
+
+    /**
+     * Restricted constructor.
+     */
+    private NanoSystemTimeSource() {
+    }
+
+    /**
+     * Resolve singletons.
+     *
+     * @return the singleton, not null
+     */
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the current {@code Instant} with nanosecond resolution.
+     *
+     * @return the current instant, not null
+     */
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochNano(epochNanos());
+    }
+
+    /**
+     * Gets the current millisecond instant.
+     *
+     * @return the current millisecond instant, measured from the Java epoch of 1970-01-01T00:00 UTC
+     */
+    @Override
+    public long millis() {
+        return MathUtils.floorDiv(epochNanos(), NANOS_PER_MILLI);
+    }
+
+    /**
+     * Gets the current instant as nanoseconds from the epoch of 1970-01-01T00:00:00Z.
+     *
+     * @return the current epoch-nanos
+     */
+    long epochNanos() {
+        // read the calibration first, so the nano-time is never before its anchor
+        Calibration cal = calibration.get();
+        long nanoTime = System.nanoTime();
+        if (nanoTime - cal.nanoTime >= RESYNC_NANOS) {
+            cal = resync(cal);
+            nanoTime = System.nanoTime();
+        }
+        return cal.epochNanos(nanoTime);
+    }
+
+    /**
+     * Checks the calibration against the system millisecond clock.
+     *
+     * @param cal  the calibration to replace, not null
+     * @return the calibration to use, not null
+     */
+    private Calibration resync(Calibration cal) {
+        long t0 = System.nanoTime();
+        long millis = System.currentTimeMillis();
+        long t1 = System.nanoTime();
+        Calibration updated = cal.resync(t0, millis, t1);
+        if (calibration.compareAndSet(cal, updated)) {
+            return updated;
+        }
+        return calibration.get();  // another thread resynced first
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the estimated error of the current calibration against the system clock.
+     * <p>
+     * When first anchored, this is the uncertainty in the moment the system
+     * millisecond clock ticked, typically well under a microsecond.
+     * It increases if the time-source is later found to be out of step with the
+     * system clock, including any difference still being removed by running slow.
+     *
+     * @return the estimated calibration error, not null
+     */
+    public Duration getCalibrationError() {
+        return Duration.ofNanos(calibration.get().error);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a string describing this time-source.
+     *
+     * @return a string representation, not null
+     */
+    @Override
+    public String toString() {
+        return "NanoSystemTimeSource";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An immutable calibration between {@code System.nanoTime()} and the epoch.
+     */
+    static final class Calibration {
+        /** The nano-time of the anchor. */
+        final long nanoTime;
+        /** The epoch-nanos at the anchor. */
+        final long epochNanos;
+        /** The nanoseconds to remove by running slow, zero or greater. */
+        final long correction;
+        /** The estimated error in nanoseconds, zero or greater. */
+        final long error;
+
+        /**
+         * Constructor.
+         *
+         * @param nanoTime  the nano-time of the anchor
+         * @param epochNanos  the epoch-nanos at the anchor
+         * @param correction  the nanoseconds to remove by running slow, zero or greater
+         * @param error  the estimated error in nanoseconds, zero or greater
+         */
+        Calibration(long nanoTime, long epochNanos, long correction, long error) {
+            this.nanoTime = nanoTime;
+            this.epochNanos = epochNanos;
+            this.correction = correction;
+            this.error = error;
+        }
+
+        /**
+         * Creates the initial calibration, aligned to a tick of the system millisecond clock.
+         *
+         * @return the calibration, not null
+         */
+        static Calibration initial() {
+            long prevT0 = System.nanoTime();
+            long start = System.currentTimeMillis();
+            long deadline = prevT0 + MAX_ALIGN_NANOS;
+            long t0 = prevT0;
+            long millis = System.currentTimeMillis();
+            long t1 = System.nanoTime();
+            while (millis == start && t1 - deadline < 0) {
+                prevT0 = t0;
+                t0 = System.nanoTime();
+                millis = System.currentTimeMillis();
+                t1 = System.nanoTime();
+            }
+            if (millis == start) {
+                // clock did not tick, anchor to the middle of the millisecond
+                return new Calibration((t0 + t1) >>> 1, millis * NANOS_PER_MILLI + NANOS_PER_MILLI / 2,
+                        0, NANOS_PER_MILLI / 2 + (t1 - t0) / 2);
+            }
+            // tick occurred after the previous read started and before this read ended
+            return new Calibration(prevT0 + (t1 - prevT0) / 2, millis * NANOS_PER_MILLI, 0, (t1 - prevT0) / 2);
+        }
+
+        /**
+         * Gets the epoch-nanos at the specified nano-time.
+         *
+         * @param time  the nano-time, not before the anchor
+         * @return the epoch-nanos
+         */
+        long epochNanos(long time) {
+            long elapsed = time - nanoTime;
+            long slew = (elapsed <= 0 ? 0 : Math.min(elapsed / SLEW_DIVISOR, correction));
+            return epochNanos + elapsed - slew;
+        }
+
+        /**
+         * Creates a new calibration based on a read of the system millisecond clock.
+         * <p>
+         * The new calibration is anchored at the end of the read, continuing from
+         * this calibration unless it is behind the system clock.
+         *
+         * @param t0  the nano-time before the system clock was read
+         * @param millis  the system millisecond clock
+         * @param t1  the nano-time after the system clock was read
+         * @return the new calibration, not null
+         */
+        Calibration resync(long t0, long millis, long t1) {
+            long low = millis * NANOS_PER_MILLI;
+            long high = low + NANOS_PER_MILLI;
+            long p0 = epochNanos(t0);
+            long p1 = epochNanos(t1);
+            if (p1 < low) {
+                // behind, step forward to the earliest time the system clock could be
+                return new Calibration(t1, low, 0, NANOS_PER_MILLI + (t1 - t0));
+            }
+            if (p0 >= high) {
+                // ahead, run slow until the system clock catches up
+                long ahead = p0 - high;
+                return new Calibration(t1, p1, ahead, ahead + NANOS_PER_MILLI + (t1 - t0));
+            }
+            // consistent with the system clock to within its resolution
+            long bound = Math.max(high - p0, p1 - low);
+            return new Calibration(t1, p1, 0, Math.min(error, bound));
+        }
+    }
+
+}
@@ -31,6 +31,7 @@
  */
 package javax.time;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 import javax.time.calendrical.Calendrical;
@@ -47,6 +48,7 @@ import javax.time.calendrical.TimeAdjuster;
 import javax.time.calendrical.ZoneResolver;
 import javax.time.calendrical.ZoneResolvers;
 import javax.time.format.CalendricalParseException;
+import javax.time.format.CalendricalPrintException;
 import javax.time.format.DateTimeFormatter;
 import javax.time.format.DateTimeFormatters;
 import javax.time.zone.ZoneRules;
@@ -1840,7 +1842,49 @@ public final class OffsetDateTime
      */
     @Override
     public String toString() {
-        return dateTime.toString() + offset.toString();
+        StringBuilder buf = new StringBuilder(38);
+        appendISO(buf);
+        return buf.toString();
+    }
+
+    /**
+     * Outputs this date-time to an {@code Appendable} in the format of {@link #toString()}.
+     * <p>
+     * This avoids creating the {@code String} returned by {@code toString()}.
+     * No objects are created when the appendable is a {@code StringBuilder},
+     * other appendables receive the output in a single call.
+     * <p>
+     * Although {@code Appendable} methods throw an {@code IOException}, this method does not.
+     * Instead, any {@code IOException} is wrapped in a runtime exception.
+     * See {@link CalendricalPrintException#rethrowIOException()} for a means
+     * to extract the {@code IOException}.
+     *
+     * @param appendable  the appendable to output to, not null
+     * @throws CalendricalException if an error occurs during printing
+     */
+    public void printTo(Appendable appendable) {
+        MathUtils.checkNotNull(appendable, "Appendable must not be null");
+        if (appendable instanceof StringBuilder) {
+            appendISO((StringBuilder) appendable);
+        } else {
+            StringBuilder buf = new StringBuilder(38);
+            appendISO(buf);
+            try {
+                appendable.append(buf);
+            } catch (IOException ex) {
+                throw new CalendricalPrintException(ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Appends this date-time to the buffer in the format of {@link #toString()}.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    private void appendISO(StringBuilder buf) {
+        dateTime.appendISO(buf);
+        buf.append(offset.getID());
     }
 
     /**
@@ -32,6 +32,7 @@
 package javax.time;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.time.calendrical.TAIInstant;
 import javax.time.calendrical.UTCInstant;
@@ -118,6 +119,23 @@ public abstract class TimeSource {
         return SystemTimeSource.INSTANCE;
     }
 
+    /**
+     * Gets a time-source that obtains the current instant with nanosecond
+     * resolution using {@link System#nanoTime()}.
+     * <p>
+     * The time-source is anchored to {@link System#currentTimeMillis()} and then
+     * advances using {@code System.nanoTime()}. It is periodically re-checked against
+     * the system millisecond clock to bound drift, without ever going backwards.
+     * See {@link NanoSystemTimeSource} for details.
+     * <p>
+     * The returned implementation is {@code Serializable}
+     *
+     * @return a {@code TimeSource} with nanosecond resolution, not null
+     */
+    public static NanoSystemTimeSource nanoSystem() {
+        return NanoSystemTimeSource.INSTANCE;
+    }
+
     /**
      * Gets a time-source that always returns the same {@code Instant}.
      * <p>
@@ -159,6 +177,32 @@ public abstract class TimeSource {
         return new OffsetSystemTimeSource(offset);
     }
 
+    /**
+     * Gets a time-source that returns a strictly increasing instant on each call.
+     * <p>
+     * Each call to {@code instant()} returns an instant later than that returned by
+     * any previous call to the same time-source, from any thread. This allows the
+     * instant to be used as a unique, ordered key for events.
+     * Where the underlying time-source returns the same or an earlier instant,
+     * one nanosecond is added to the last instant returned. If called more than
+     * once per nanosecond over a sustained period, the instants returned will run
+     * ahead of the underlying time-source.
+     * <p>
+     * The implementation is lock-free, holding the last instant as epoch-nanos in an
+     * {@code AtomicLong}. The underlying time-source should normally have nanosecond
+     * resolution, such as {@link #nanoSystem()}.
+     * <p>
+     * The returned implementation is {@code Serializable}, with a deserialized
+     * instance starting from the underlying time-source again.
+     *
+     * @param timeSource  the underlying time-source, not null
+     * @return a {@code TimeSource} that returns strictly increasing instants, not null
+     */
+    public static TimeSource monotonic(TimeSource timeSource) {
+        MathUtils.checkNotNull(timeSource, "TimeSource must not be null");
+        return new MonotonicTimeSource(timeSource);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor accessible by subclasses.
@@ -368,4 +412,53 @@ public abstract class TimeSource {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a time-source that returns strictly increasing instants.
+     */
+    static final class MonotonicTimeSource extends TimeSource implements Serializable {
+        /** Serialization version. */
+        private static final long serialVersionUID = 1L;
+        /** The underlying time-source. */
+        private final TimeSource timeSource;
+        /** The last epoch-nanos returned. */
+        private final transient AtomicLong last = new AtomicLong(Long.MIN_VALUE);
+
+        /** Restricted constructor. */
+        private MonotonicTimeSource(TimeSource timeSource) {
+            this.timeSource = timeSource;
+        }
+        /** Resolve to a new instance with an empty sequence. */
+        private Object readResolve() {
+            return new MonotonicTimeSource(timeSource);
+        }
+        /** {@inheritDoc} */
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochNano(epochNanos());
+        }
+        /** Gets the next epoch-nanos, later than any previously returned. */
+        long epochNanos() {
+            long now;
+            if (timeSource instanceof NanoSystemTimeSource) {
+                now = ((NanoSystemTimeSource) timeSource).epochNanos();
+            } else {
+                Instant instant = timeSource.instant();
+                now = MathUtils.safeAdd(MathUtils.safeMultiply(instant.getEpochSecond(), 1000000000), instant.getNanoOfSecond());
+            }
+            while (true) {
+                long prev = last.get();
+                long next = (now > prev ? now : prev + 1);
+                if (last.compareAndSet(prev, next)) {
+                    return next;
+                }
+            }
+        }
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return "MonotonicTimeSource[" + timeSource + ']';
+        }
+    }
+
 }
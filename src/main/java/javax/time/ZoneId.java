@@ -41,6 +41,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -124,6 +126,22 @@ public abstract class ZoneId implements Calendrical, Serializable {
      * The group:region#version ID pattern.
      */
     private static final Pattern PATTERN = Pattern.compile("(([A-Za-z0-9._-]+)[:])?([A-Za-z0-9%@~/+._-]+)([#]([A-Za-z0-9._-]+))?");
+    /**
+     * The maximum number of entries in each of the caches of parsed IDs.
+     */
+    private static final int ID_CACHE_SIZE = 1000;
+    /**
+     * The cache of IDs successfully parsed by {@link #of(String)}.
+     * Providers cannot be deregistered, so a valid ID remains valid.
+     */
+    private static final ConcurrentMap<String, ZoneId> VALID_IDS =
+            new ConcurrentHashMap<String, ZoneId>(64, 0.75f, 4);
+    /**
+     * The cache of IDs that failed to parse in {@link #of(String)}.
+     * Entries only apply while no further providers have been registered.
+     */
+    private static final ConcurrentMap<String, InvalidID> INVALID_IDS =
+            new ConcurrentHashMap<String, InvalidID>(16, 0.75f, 4);
     /**
      * Serialization version.
      */
@@ -311,6 +329,8 @@ public abstract class ZoneId implements Calendrical, Serializable {
      * <p>
      * Once parsed, this factory will ensure that the group, region and version combination is valid
      * and rules can be obtained.
+     * The result of parsing is cached, so repeated calls with the same identifier are fast
+     * and will typically return the same instance.
      * <p>
      * The alternate format is for fixed time-zones, where the offset never changes over time.
      * A fixed time-zone is returned if the first three characters are 'UTC' or 'GMT' and
@@ -325,7 +345,32 @@ public abstract class ZoneId implements Calendrical, Serializable {
      * @throws CalendricalException if the zone ID cannot be found
      */
     public static ZoneId of(String zoneID) {
-        return ofID(zoneID, true);
+        MathUtils.checkNotNull(zoneID, "Time zone ID must not be null");
+        ZoneId zone = VALID_IDS.get(zoneID);
+        if (zone != null) {
+            return zone;
+        }
+        int generation = ZoneRulesGroup.getGeneration();  // read before parsing
+        InvalidID invalid = INVALID_IDS.get(zoneID);
+        if (invalid != null && invalid.generation == generation) {
+            throw invalid.copyFailure();
+        }
+        try {
+            zone = ofID(zoneID, true);
+        } catch (CalendricalException ex) {
+            if (ex.getClass() == CalendricalException.class) {  // subclasses cannot be copied
+                if (INVALID_IDS.size() >= ID_CACHE_SIZE) {
+                    INVALID_IDS.clear();
+                }
+                INVALID_IDS.put(zoneID, new InvalidID(generation, ex));
+            }
+            throw ex;
+        }
+        if (VALID_IDS.size() >= ID_CACHE_SIZE) {
+            VALID_IDS.clear();
+        }
+        ZoneId existing = VALID_IDS.putIfAbsent(zoneID, zone);
+        return (existing != null ? existing : zone);
     }
 
     /**
@@ -820,6 +865,8 @@ public abstract class ZoneId implements Calendrical, Serializable {
         private final String regionID;
         /** The time-zone version ID, not null. */
         private final String versionID;
+        /** The cached rules, null until first resolved. */
+        private transient volatile CachedRules cachedRules;
 
         /**
          * Constructor.
@@ -934,11 +981,20 @@ public abstract class ZoneId implements Calendrical, Serializable {
 
         @Override
         public ZoneRules getRules() {
+            int generation = ZoneRulesGroup.getGeneration();  // read before resolving
+            CachedRules cached = cachedRules;
+            if (cached != null && cached.generation == generation) {
+                return cached.rules;
+            }
             ZoneRulesGroup group = getGroup();
+            ZoneRules rules;
             if (isFloatingVersion()) {
-                return group.getRules(regionID, group.getLatestVersionID(regionID));
+                rules = group.getRules(regionID, group.getLatestVersionID(regionID));
+            } else {
+                rules = group.getRules(regionID, versionID);
             }
-            return group.getRules(regionID, versionID);
+            cachedRules = new CachedRules(generation, rules);
+            return rules;
         }
 
         @Override
@@ -965,6 +1021,59 @@ public abstract class ZoneId implements Calendrical, Serializable {
         }
     }
 
+    /**
+     * An ID that failed to parse, valid until further providers are registered.
+     */
+    static final class InvalidID {
+        /** The generation of the registered providers when parsed. */
+        final int generation;
+        /** The failure, exactly of type {@code CalendricalException}. */
+        final CalendricalException failure;
+
+        /**
+         * Constructor.
+         *
+         * @param generation  the generation of the registered providers
+         * @param failure  the failure, exactly of type {@code CalendricalException}, not null
+         */
+        InvalidID(int generation, CalendricalException failure) {
+            this.generation = generation;
+            this.failure = failure;
+        }
+
+        /**
+         * Creates a copy of the failure to throw, with the same message and cause.
+         * <p>
+         * The stored failure is shared between threads, so is never thrown itself.
+         *
+         * @return the copy of the failure, not null
+         */
+        CalendricalException copyFailure() {
+            return new CalendricalException(failure.getMessage(), failure.getCause());
+        }
+    }
+
+    /**
+     * Rules resolved for an ID, valid until further providers are registered.
+     */
+    static final class CachedRules {
+        /** The generation of the registered providers when resolved. */
+        final int generation;
+        /** The resolved rules, not null. */
+        final ZoneRules rules;
+
+        /**
+         * Constructor.
+         *
+         * @param generation  the generation of the registered providers
+         * @param rules  the resolved rules, not null
+         */
+        CachedRules(int generation, ZoneRules rules) {
+            this.generation = generation;
+            this.rules = rules;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Fixed time-zone.
@@ -387,6 +387,20 @@ public final class ZonedDateTime
         return new ZonedDateTime(dateTime, zone);
     }
 
+    /**
+     * Obtains an instance of {@code ZonedDateTime} from an offset date-time
+     * already known to be valid for the time-zone.
+     * <p>
+     * No validation is performed against the rules of the zone.
+     *
+     * @param dateTime  the offset date-time, valid for the zone, not null
+     * @param zone  the time-zone, not null
+     * @return the zoned date-time, not null
+     */
+    static ZonedDateTime create(OffsetDateTime dateTime, ZoneId zone) {
+        return new ZonedDateTime(dateTime, zone);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code ZonedDateTime} from an {@code InstantProvider}
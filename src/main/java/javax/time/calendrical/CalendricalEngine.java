@@ -37,18 +37,31 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.time.AmPmOfDay;
 import javax.time.CalendricalException;
+import javax.time.DayOfWeek;
 import javax.time.LocalDate;
+import javax.time.LocalDateTime;
 import javax.time.LocalTime;
 import javax.time.MathUtils;
+import javax.time.MonthDay;
+import javax.time.MonthOfYear;
+import javax.time.OffsetDate;
+import javax.time.OffsetDateTime;
+import javax.time.OffsetTime;
+import javax.time.QuarterOfYear;
+import javax.time.Year;
+import javax.time.YearMonth;
 import javax.time.ZoneId;
 import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
 
 /**
  * Main processing engine to merge and interpret calendrical information.
@@ -193,16 +206,10 @@ public final class CalendricalEngine {
             // optimize simple cases
             if (ruleToDerive instanceof ISODateTimeRule) {
                 return (R) ((ISODateTimeRule) ruleToDerive).deriveFrom(date, time, offset);
-            } else if (ruleToDerive == LocalDate.rule()) {
-                return (R) date;
-            } else if (ruleToDerive == LocalTime.rule()) {
-                return (R) time;
-            } else if (ruleToDerive == ZoneOffset.rule()) {
-                return (R) offset;
-            } else if (ruleToDerive == ZoneId.rule()) {
-                return (R) zone;
-            } else if (ruleToDerive == Chronology.rule()) {
-                return (R) chronology;
+            }
+            Object derived = Derivations.derive(ruleToDerive, date, time, offset, zone, chronology);
+            if (derived != Derivations.UNHANDLED) {
+                return (R) derived;
             }
             // other cases are not so simple, so drop through
         }
@@ -823,6 +830,134 @@ public final class CalendricalEngine {
         return getInput().toString() + (errors.size() > 0 ? " " + errors : "");
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Precomputed derivations of the main ISO types from the principal objects.
+     * <p>
+     * This handles deriving a rule such as {@code Year} or {@code LocalDateTime}
+     * from a calendrical that has no fields, avoiding the creation of an engine.
+     * The table is keyed by the shape of the data, being which of the date, time,
+     * offset and zone are present, and the rule to derive.
+     * For the ISO types the shape is determined by the rule of the data.
+     * The result is the same as that obtained by normalizing an engine.
+     */
+    private static final class Derivations {
+        /** Marker returned when the derivation is not handled. */
+        static final Object UNHANDLED = new Object();
+
+        /** Shape flag for the date. */
+        private static final int DATE = 1;
+        /** Shape flag for the time. */
+        private static final int TIME = 2;
+        /** Shape flag for the offset. */
+        private static final int OFFSET = 4;
+        /** Shape flag for the zone. */
+        private static final int ZONE = 8;
+
+        private static final byte ENGINE = 0;
+        private static final byte NONE = 1;
+        private static final byte LOCAL_DATE = 2;
+        private static final byte LOCAL_TIME = 3;
+        private static final byte LOCAL_DATE_TIME = 4;
+        private static final byte OFFSET_DATE = 5;
+        private static final byte OFFSET_TIME = 6;
+        private static final byte OFFSET_DATE_TIME = 7;
+        private static final byte ZONED_DATE_TIME = 8;
+        private static final byte ZONE_OFFSET = 9;
+        private static final byte ZONE_ID = 10;
+        private static final byte CHRONOLOGY = 11;
+        private static final byte YEAR = 12;
+        private static final byte YEAR_MONTH = 13;
+        private static final byte MONTH_DAY = 14;
+        private static final byte MONTH_OF_YEAR = 15;
+        private static final byte QUARTER_OF_YEAR = 16;
+        private static final byte DAY_OF_WEEK = 17;
+        private static final byte AM_PM_OF_DAY = 18;
+
+        /** The index of each rule in the table. */
+        private static final Map<CalendricalRule<?>, Integer> INDEX = new IdentityHashMap<CalendricalRule<?>, Integer>();
+        /** The action to take, indexed by shape and then by rule. */
+        private static final byte[][] TABLE = new byte[16][];
+        static {
+            CalendricalRule<?>[] rules = {
+                LocalDate.rule(), LocalTime.rule(), LocalDateTime.rule(),
+                OffsetDate.rule(), OffsetTime.rule(), OffsetDateTime.rule(), ZonedDateTime.rule(),
+                ZoneOffset.rule(), ZoneId.rule(), Chronology.rule(),
+                Year.rule(), YearMonth.rule(), MonthDay.rule(),
+                MonthOfYear.rule(), QuarterOfYear.rule(), DayOfWeek.rule(), AmPmOfDay.rule(),
+            };
+            byte[] actions = {
+                LOCAL_DATE, LOCAL_TIME, LOCAL_DATE_TIME,
+                OFFSET_DATE, OFFSET_TIME, OFFSET_DATE_TIME, ZONED_DATE_TIME,
+                ZONE_OFFSET, ZONE_ID, CHRONOLOGY,
+                YEAR, YEAR_MONTH, MONTH_DAY,
+                MONTH_OF_YEAR, QUARTER_OF_YEAR, DAY_OF_WEEK, AM_PM_OF_DAY,
+            };
+            int[] required = {
+                0, 0, DATE | TIME,
+                DATE | OFFSET, TIME | OFFSET, DATE | TIME | OFFSET, DATE | TIME,
+                0, 0, 0,
+                DATE, DATE, DATE,
+                DATE, DATE, DATE, TIME,
+            };
+            for (int i = 0; i < rules.length; i++) {
+                INDEX.put(rules[i], i);
+            }
+            for (int shape = 0; shape < TABLE.length; shape++) {
+                TABLE[shape] = new byte[rules.length];
+                for (int i = 0; i < rules.length; i++) {
+                    byte action = ((shape & required[i]) == required[i] ? actions[i] : NONE);
+                    if (action == ZONED_DATE_TIME) {
+                        // resolving the zone is not simple, so leave to the engine
+                        action = ((shape & (OFFSET | ZONE)) != 0 ? ENGINE : NONE);
+                    }
+                    TABLE[shape][i] = action;
+                }
+            }
+        }
+
+        /**
+         * Derives the rule from the principal objects.
+         *
+         * @param ruleToDerive  the rule to derive, not null
+         * @param date  the date to derive from, may be null
+         * @param time  the time to derive from, may be null
+         * @param offset  the zone offset to derive from, may be null
+         * @param zone  the zone ID to derive from, may be null
+         * @param chronology  the chronology to derive from, may be null
+         * @return the derived value, null if unable to derive, {@code UNHANDLED} if the engine must be used
+         */
+        static Object derive(CalendricalRule<?> ruleToDerive,
+                LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone, Chronology chronology) {
+            Integer index = INDEX.get(ruleToDerive);
+            if (index == null) {
+                return UNHANDLED;
+            }
+            int shape = (date != null ? DATE : 0) | (time != null ? TIME : 0) |
+                    (offset != null ? OFFSET : 0) | (zone != null ? ZONE : 0);
+            switch (TABLE[shape][index]) {
+                case NONE: return null;
+                case LOCAL_DATE: return date;
+                case LOCAL_TIME: return time;
+                case LOCAL_DATE_TIME: return LocalDateTime.of(date, time);
+                case OFFSET_DATE: return OffsetDate.of(date, offset);
+                case OFFSET_TIME: return OffsetTime.of(time, offset);
+                case OFFSET_DATE_TIME: return OffsetDateTime.of(date, time, offset);
+                case ZONE_OFFSET: return offset;
+                case ZONE_ID: return zone;
+                case CHRONOLOGY: return chronology;
+                case YEAR: return Year.of(date.getYear());
+                case YEAR_MONTH: return YearMonth.of(date.getYear(), date.getMonthOfYear());
+                case MONTH_DAY: return MonthDay.of(date.getMonthOfYear(), date.getDayOfMonth());
+                case MONTH_OF_YEAR: return date.getMonthOfYear();
+                case QUARTER_OF_YEAR: return date.getMonthOfYear().getQuarterOfYear();
+                case DAY_OF_WEEK: return date.getDayOfWeek();
+                case AM_PM_OF_DAY: return AmPmOfDay.of(time.getHourOfDay() / 12);
+            }
+            return UNHANDLED;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Rule class.
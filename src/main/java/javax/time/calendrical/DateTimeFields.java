@@ -64,6 +64,8 @@ import javax.time.MathUtils;
  * <p>
  * {@code DateTimeFields} can store rules of any kind which makes it usable with
  * any calendar system.
+ * Fields using the rules in {@link ISODateTimeRule} are held internally as primitive
+ * values, making them cheap to query and change.
  * <p>
  * This class is immutable and thread-safe.
  *
@@ -76,17 +78,26 @@ public final class DateTimeFields
     /**
      * A singleton empty {@code DateTimeFields}, placing no restrictions on the date-time.
      */
-    public static final DateTimeFields EMPTY = new DateTimeFields(Collections.<DateTimeField>emptyList());
+    public static final DateTimeFields EMPTY = new DateTimeFields(0, new long[0], Collections.<DateTimeField>emptyList());
 
     /**
      * Serialization version.
      */
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     /**
-     * The list of fields which never contains the same rule twice (as in a map), not null, may be empty.
+     * The bit-mask of ISO rules that are present, where the bit is the rule index.
      */
-    private final List<DateTimeField> fields;
+    private final long isoRules;
+    /**
+     * The values of the ISO rules, one for each bit set in the mask in ascending index order, not null.
+     */
+    private final long[] isoValues;
+    /**
+     * The list of fields with other rules which never contains the same rule twice (as in a map),
+     * sorted in reverse order, not null, may be empty.
+     */
+    private final List<DateTimeField> otherFields;
 
     /**
      * Obtains a {@code DateTimeFields} from a rule and value.
@@ -98,7 +109,7 @@ public final class DateTimeFields
      * @return the date-time fields, not null
      */
     public static DateTimeFields of(DateTimeRule rule, long value) {
-        return of(DateTimeField.of(rule, value));
+        return EMPTY.with(rule, value);
     }
 
     /**
@@ -114,9 +125,12 @@ public final class DateTimeFields
      * @throws IllegalArgumentException if any rule is duplicated
      */
     public static DateTimeFields of(DateTimeRule rule1, long value1, DateTimeRule rule2, long value2) {
-        DateTimeField field1 = DateTimeField.of(rule1, value1);
-        DateTimeField field2 = DateTimeField.of(rule2, value2);
-        return of(Arrays.asList(field1, field2));
+        MathUtils.checkNotNull(rule1, "DateTimeRule must not be null");
+        MathUtils.checkNotNull(rule2, "DateTimeRule must not be null");
+        if (rule1.equals(rule2)) {
+            throw new IllegalArgumentException("Duplicate rules are not allowed");
+        }
+        return EMPTY.with(rule1, value1).with(rule2, value2);
     }
 
     /**
@@ -129,7 +143,7 @@ public final class DateTimeFields
      */
     public static DateTimeFields of(DateTimeField field) {
         MathUtils.checkNotNull(field, "DateTimeField must not be null");
-        return new DateTimeFields(Collections.singletonList(field));
+        return EMPTY.with(field);
     }
 
     /**
@@ -161,30 +175,54 @@ public final class DateTimeFields
      */
     public static DateTimeFields of(Iterable<DateTimeField> fieldsIterable) {
         MathUtils.checkNotNull(fieldsIterable, "Iterable must not be null");
+        long mask = 0;
+        long[] values = new long[64];  // one slot per bit in the mask
         Set<DateTimeRule> rules = new HashSet<DateTimeRule>();
-        List<DateTimeField> created = new ArrayList<DateTimeField>();
+        List<DateTimeField> others = new ArrayList<DateTimeField>();
         for (DateTimeField field : fieldsIterable) {
             MathUtils.checkNotNull(field, "DateTimeField must not be null");
-            if (rules.add(field.getRule()) == false) {
-                throw new IllegalArgumentException("Duplicate rules are not allowed");
+            int index = isoIndex(field.getRule());
+            if (index >= 0) {
+                if ((mask & (1L << index)) != 0) {
+                    throw new IllegalArgumentException("Duplicate rules are not allowed");
+                }
+                mask |= (1L << index);
+                values[index] = field.getValue();
+            } else {
+                if (rules.add(field.getRule()) == false) {
+                    throw new IllegalArgumentException("Duplicate rules are not allowed");
+                }
+                others.add(field);
             }
-            created.add(field);
         }
-        if (created.size() == 0) {
+        if (mask == 0 && others.size() == 0) {
             return EMPTY;
         }
-        Collections.sort(created, Collections.reverseOrder());
-        return new DateTimeFields(created);
+        long[] compact = new long[Long.bitCount(mask)];
+        int pos = 0;
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            compact[pos++] = values[Long.numberOfTrailingZeros(bits)];
+        }
+        if (others.size() == 0) {
+            others = Collections.emptyList();
+        } else {
+            Collections.sort(others, Collections.reverseOrder());
+        }
+        return new DateTimeFields(mask, compact, others);
     }
 
     //-----------------------------------------------------------------------
     /**
      * Constructor.
      *
-     * @param assignedFields  the list of fields, which is assigned, not null
+     * @param isoRules  the bit-mask of ISO rules
+     * @param isoValues  the ISO values matching the mask, which is assigned, not null
+     * @param otherFields  the sorted list of other fields, which is assigned, not null
      */
-    private DateTimeFields(List<DateTimeField> assignedFields) {
-        fields = assignedFields;
+    private DateTimeFields(long isoRules, long[] isoValues, List<DateTimeField> otherFields) {
+        this.isoRules = isoRules;
+        this.isoValues = isoValues;
+        this.otherFields = otherFields;
     }
 
     /**
@@ -194,7 +232,27 @@ public final class DateTimeFields
      * @throws ObjectStreamException if an error occurs
      */
     private Object readResolve() throws ObjectStreamException {
-        return fields.isEmpty() ? EMPTY : this;
+        return size() == 0 ? EMPTY : this;
+    }
+
+    /**
+     * Gets the index of the rule if it is an ISO rule.
+     *
+     * @param rule  the rule, may be null
+     * @return the ISO rule index, -1 if not an ISO rule
+     */
+    private static int isoIndex(DateTimeRule rule) {
+        return (rule instanceof ISODateTimeRule ? ((ISODateTimeRule) rule).getIndex() : -1);
+    }
+
+    /**
+     * Gets the position in the values array of the ISO rule index.
+     *
+     * @param index  the ISO rule index
+     * @return the position the value is, or would be, stored at
+     */
+    private int valuePosition(int index) {
+        return Long.bitCount(isoRules & ((1L << index) - 1));
     }
 
     //-----------------------------------------------------------------------
@@ -223,7 +281,7 @@ public final class DateTimeFields
      * @return number of rule-value pairs, zero or greater
      */
     public int size() {
-        return fields.size();
+        return isoValues.length + otherFields.size();
     }
 
     /**
@@ -236,7 +294,29 @@ public final class DateTimeFields
      * @return an iterator over the fields, not null
      */
     public Iterator<DateTimeField> iterator() {
-        return Collections.unmodifiableCollection(fields).iterator();
+        return Collections.unmodifiableCollection(toList()).iterator();
+    }
+
+    /**
+     * Creates the list of fields sorted in reverse order.
+     *
+     * @return the list of fields, not null
+     */
+    private List<DateTimeField> toList() {
+        if (isoRules == 0) {
+            return otherFields;
+        }
+        List<DateTimeField> list = new ArrayList<DateTimeField>(size());
+        int pos = isoValues.length;
+        for (long bits = isoRules; bits != 0; bits &= ~Long.highestOneBit(bits)) {
+            int index = 63 - Long.numberOfLeadingZeros(bits);
+            list.add(DateTimeField.of(ISODateTimeRule.ofIndex(index), isoValues[--pos]));
+        }
+        if (otherFields.size() > 0) {
+            list.addAll(otherFields);
+            Collections.sort(list, Collections.reverseOrder());
+        }
+        return list;
     }
 
     /**
@@ -248,12 +328,26 @@ public final class DateTimeFields
      * @return true if this contains a field with the specified rule
      */
     public boolean contains(DateTimeRule rule) {
-        for (DateTimeField field : fields) {
-            if (field.getRule().equals(rule)) {
-                return true;
+        int index = isoIndex(rule);
+        if (index >= 0) {
+            return (isoRules & (1L << index)) != 0;
+        }
+        return findOther(rule) >= 0;
+    }
+
+    /**
+     * Finds the position of a rule that is not an ISO rule.
+     *
+     * @param rule  the rule to find, null returns -1
+     * @return the position in the other fields list, -1 if not found
+     */
+    private int findOther(DateTimeRule rule) {
+        for (int i = 0; i < otherFields.size(); i++) {
+            if (otherFields.get(i).getRule().equals(rule)) {
+                return i;
             }
         }
-        return false;
+        return -1;
     }
 
     //-----------------------------------------------------------------------
@@ -269,12 +363,15 @@ public final class DateTimeFields
      */
     public DateTimeField getField(DateTimeRule rule) {
         MathUtils.checkNotNull(rule, "DateTimeRule must not be null");
-        for (DateTimeField field : fields) {
-            if (field.getRule().equals(rule)) {
-                return field;
+        int index = isoIndex(rule);
+        if (index >= 0) {
+            if ((isoRules & (1L << index)) == 0) {
+                return null;
             }
+            return DateTimeField.of(rule, isoValues[valuePosition(index)]);
         }
-        return null;
+        int pos = findOther(rule);
+        return (pos >= 0 ? otherFields.get(pos) : null);
     }
 
     /**
@@ -293,11 +390,19 @@ public final class DateTimeFields
      * @throws CalendricalException if the field is not present
      */
     public long getValue(DateTimeRule rule) {
-        DateTimeField field = getField(rule);
-        if (field == null) {
-            throw new CalendricalRuleException("Rule not found: " + rule, rule);
+        MathUtils.checkNotNull(rule, "DateTimeRule must not be null");
+        int index = isoIndex(rule);
+        if (index >= 0) {
+            if ((isoRules & (1L << index)) != 0) {
+                return isoValues[valuePosition(index)];
+            }
+        } else {
+            int pos = findOther(rule);
+            if (pos >= 0) {
+                return otherFields.get(pos).getValue();
+            }
         }
-        return field.getValue();
+        throw new CalendricalRuleException("Rule not found: " + rule, rule);
     }
 
     /**
@@ -358,7 +463,26 @@ public final class DateTimeFields
      * @return a {@code DateTimeFields} based on this fields with the specified field set, not null
      */
     public DateTimeFields with(DateTimeRule rule, long value) {
-        return with(DateTimeField.of(rule, value));
+        MathUtils.checkNotNull(rule, "DateTimeRule must not be null");
+        int index = isoIndex(rule);
+        if (index < 0) {
+            return with(DateTimeField.of(rule, value));
+        }
+        int pos = valuePosition(index);
+        long bit = 1L << index;
+        if ((isoRules & bit) != 0) {
+            if (isoValues[pos] == value) {
+                return this;
+            }
+            long[] newValues = isoValues.clone();
+            newValues[pos] = value;
+            return new DateTimeFields(isoRules, newValues, otherFields);
+        }
+        long[] newValues = new long[isoValues.length + 1];
+        System.arraycopy(isoValues, 0, newValues, 0, pos);
+        newValues[pos] = value;
+        System.arraycopy(isoValues, pos, newValues, pos + 1, isoValues.length - pos);
+        return new DateTimeFields(isoRules | bit, newValues, otherFields);
     }
 
     /**
@@ -373,8 +497,11 @@ public final class DateTimeFields
      * @return a {@code DateTimeFields} based on this fields with the specified field set, not null
      */
     public DateTimeFields with(DateTimeField field) {
-        MathUtils.checkNotNull(fields, "DateTimeField must not be null");
-        List<DateTimeField> newFields = new ArrayList<DateTimeField>(fields);
+        MathUtils.checkNotNull(field, "DateTimeField must not be null");
+        if (field.getRule() instanceof ISODateTimeRule) {
+            return with(field.getRule(), field.getValue());
+        }
+        List<DateTimeField> newFields = new ArrayList<DateTimeField>(otherFields);
         for (ListIterator<DateTimeField> it = newFields.listIterator(); it.hasNext(); ) {
             DateTimeField itField = it.next();
             if (itField.getRule().equals(field.getRule())) {
@@ -382,13 +509,13 @@ public final class DateTimeFields
                     return this;
                 } else {
                     it.set(field);
-                    return new DateTimeFields(newFields);
+                    return new DateTimeFields(isoRules, isoValues, newFields);
                 }
             }
         }
         newFields.add(field);
         Collections.sort(newFields, Collections.reverseOrder());
-        return new DateTimeFields(newFields);
+        return new DateTimeFields(isoRules, isoValues, newFields);
     }
 
     /**
@@ -404,17 +531,28 @@ public final class DateTimeFields
      */
     public DateTimeFields without(DateTimeRule rule) {
         MathUtils.checkNotNull(rule, "DateTimeRule must not be null");
-        List<DateTimeField> newFields = new ArrayList<DateTimeField>(fields);
-        for (Iterator<DateTimeField> it = newFields.iterator(); it.hasNext(); ) {
-            if (it.next().getRule().equals(rule)) {
-                it.remove();
-                if (newFields.size() == 0) {
-                    return EMPTY;
-                }
-                return new DateTimeFields(newFields);
+        DateTimeFields result = this;
+        int index = isoIndex(rule);
+        if (index >= 0) {
+            long bit = 1L << index;
+            if ((isoRules & bit) == 0) {
+                return this;
+            }
+            int pos = valuePosition(index);
+            long[] newValues = new long[isoValues.length - 1];
+            System.arraycopy(isoValues, 0, newValues, 0, pos);
+            System.arraycopy(isoValues, pos + 1, newValues, pos, newValues.length - pos);
+            result = new DateTimeFields(isoRules & ~bit, newValues, otherFields);
+        } else {
+            int pos = findOther(rule);
+            if (pos < 0) {
+                return this;
             }
+            List<DateTimeField> newFields = new ArrayList<DateTimeField>(otherFields);
+            newFields.remove(pos);
+            result = new DateTimeFields(isoRules, isoValues, newFields);
         }
-        return this;
+        return (result.size() == 0 ? EMPTY : result);
     }
 
     //-----------------------------------------------------------------------
@@ -457,7 +595,7 @@ public final class DateTimeFields
      */
     public boolean matches(Calendrical calendrical) {
         MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
-        for (DateTimeField field : fields) {
+        for (DateTimeField field : this) {
             if (field.matches(calendrical) == false) {
                 return false;
             }
@@ -481,7 +619,9 @@ public final class DateTimeFields
         }
         if (obj instanceof DateTimeFields) {
             DateTimeFields other = (DateTimeFields) obj;
-            return fields.equals(other.fields);
+            return isoRules == other.isoRules &&
+                    Arrays.equals(isoValues, other.isoValues) &&
+                    otherFields.equals(other.otherFields);
         }
         return false;
     }
@@ -493,7 +633,7 @@ public final class DateTimeFields
      */
     @Override
     public int hashCode() {
-        return fields.hashCode();
+        return ((int) (isoRules ^ (isoRules >>> 32))) ^ Arrays.hashCode(isoValues) ^ otherFields.hashCode();
     }
 
     //-----------------------------------------------------------------------
@@ -506,7 +646,7 @@ public final class DateTimeFields
      */
     @Override
     public String toString() {
-        return fields.toString();
+        return toList().toString();
     }
 
 }
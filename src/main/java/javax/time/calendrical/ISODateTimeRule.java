@@ -120,6 +120,29 @@ public final class ISODateTimeRule extends DateTimeRule implements Serializable
         return RULE_CACHE[ordinal / 16];
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the dense index of this rule, from 0 to 32.
+     * <p>
+     * This is used by {@link DateTimeFields} to store ISO values in a bit-mask and array.
+     * The index order matches the sort order of the rules.
+     *
+     * @return the index of the rule
+     */
+    int getIndex() {
+        return ordinal / 16;
+    }
+
+    /**
+     * Gets the rule for a dense index.
+     *
+     * @param index  the index, from 0 to 32
+     * @return the rule, not null
+     */
+    static DateTimeRule ofIndex(int index) {
+        return RULE_CACHE[index];
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public DateTimeRuleRange getValueRange(Calendrical calendrical) {
@@ -363,9 +386,9 @@ public final class ISODateTimeRule extends DateTimeRule implements Serializable
      */
     private static int getWeekOfWeekBasedYearFromDate(LocalDate date) {
         int wby = getWeekBasedYearFromDate(date);
-        LocalDate yearStart = LocalDate.of(wby, MonthOfYear.JANUARY, 4);
-        return MathUtils.safeToInt((date.toModifiedJulianDay() - yearStart.toModifiedJulianDay() +
-                yearStart.getDayOfWeek().getValue() - 1) / 7 + 1);
+        long yearStart = LocalDate.epochDayOf(wby, 1, 4);
+        int yearStartDow0 = MathUtils.floorMod(yearStart + 3, 7);
+        return MathUtils.safeToInt((date.toEpochDay() - yearStart + yearStartDow0) / 7 + 1);
     }
 
     //-----------------------------------------------------------------------
@@ -764,7 +787,7 @@ public final class ISODateTimeRule extends DateTimeRule implements Serializable
      * Indices must match ordinal passed to rule constructor.
      */
     private static final DateTimeRule[] RULE_CACHE = new DateTimeRule[] {
-        NANO_OF_MILLI, NANO_OF_SECOND, NANO_OF_SECOND, NANO_OF_MINUTE, NANO_OF_DAY,
+        NANO_OF_MILLI, NANO_OF_SECOND, NANO_OF_MINUTE, NANO_OF_HOUR, NANO_OF_DAY,
         MILLI_OF_SECOND, MILLI_OF_MINUTE, MILLI_OF_HOUR, MILLI_OF_DAY,
         SECOND_OF_MINUTE, SECOND_OF_HOUR, SECOND_OF_DAY, EPOCH_SECOND,
         MINUTE_OF_HOUR, MINUTE_OF_DAY,
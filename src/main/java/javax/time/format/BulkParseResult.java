@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+/**
+ * The result of parsing many texts with a single formatter.
+ * <p>
+ * Each text is either parsed to a value or fails with an error index,
+ * allowing the texts that fail to be reported without stopping the parse.
+ * The results are obtained from
+ * {@link DateTimeFormatter#parseAll(java.util.List, javax.time.calendrical.CalendricalRule)}.
+ * <p>
+ * This class is immutable and thread-safe, provided the parsed values are.
+ *
+ * @param <T> the type of the parsed values
+ * @author Stephen Colebourne
+ */
+public final class BulkParseResult<T> {
+
+    /**
+     * The parsed values, null where the parse failed.
+     */
+    private final Object[] values;
+    /**
+     * The error indices, -1 where the parse succeeded.
+     */
+    private final int[] errorIndices;
+    /**
+     * The number of texts that failed to parse.
+     */
+    private final int errorCount;
+
+    /**
+     * Constructor.
+     *
+     * @param values  the parsed values, null where the parse failed, not null
+     * @param errorIndices  the error indices, -1 where the parse succeeded, not null
+     */
+    BulkParseResult(Object[] values, int[] errorIndices) {
+        this.values = values;
+        this.errorIndices = errorIndices;
+        int count = 0;
+        for (int errorIndex : errorIndices) {
+            if (errorIndex >= 0) {
+                count++;
+            }
+        }
+        this.errorCount = count;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of texts that were parsed.
+     *
+     * @return the number of texts, including those that failed
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Gets the number of texts that failed to parse.
+     *
+     * @return the number of failures, zero or greater
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Gets the value parsed from the text at the specified index.
+     *
+     * @param index  the index of the text
+     * @return the parsed value, null if the text failed to parse
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) values[index];
+    }
+
+    /**
+     * Gets the error index of the text at the specified index.
+     * <p>
+     * This is the index within the text at which the parse failed, matching
+     * {@link CalendricalParseException#getErrorIndex()} from a single parse.
+     *
+     * @param index  the index of the text
+     * @return the error index within the text, -1 if the text was parsed successfully
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getErrorIndex(int index) {
+        return errorIndices[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a string describing the result.
+     *
+     * @return a description of the result, not null
+     */
+    @Override
+    public String toString() {
+        return "BulkParseResult[size=" + values.length + ", errors=" + errorCount + "]";
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.time.CalendricalException;
+import javax.time.calendrical.CalendricalRule;
+
+/**
+ * Parses many texts with a single formatter, optionally splitting the work across threads.
+ * <p>
+ * The texts are divided into contiguous ranges, each parsed by one task using a
+ * single reused parse context. The tasks write to disjoint parts of shared result
+ * arrays, which are safely published by the completion of the task's future.
+ * The calling thread parses the first range itself rather than waiting idle.
+ * <p>
+ * This class is a mutable object intended for use by a single bulk parse.
+ *
+ * @author Stephen Colebourne
+ */
+final class BulkParser implements Callable<Void> {
+
+    /**
+     * The minimum number of texts to parse in each parallel task.
+     */
+    private static final int MIN_TASK_SIZE = 256;
+    /**
+     * The number of tasks to create for each processor, to balance uneven ranges.
+     */
+    private static final int TASKS_PER_PROCESSOR = 4;
+
+    /**
+     * The formatter to parse with, not null.
+     */
+    private final DateTimeFormatter formatter;
+    /**
+     * The texts to parse, not null.
+     */
+    private final List<? extends CharSequence> texts;
+    /**
+     * The rule to derive, not null.
+     */
+    private final CalendricalRule<?> rule;
+    /**
+     * The parsed values, shared by all tasks, not null.
+     */
+    private final Object[] values;
+    /**
+     * The error indices, shared by all tasks, not null.
+     */
+    private final int[] errorIndices;
+    /**
+     * The first index to parse, inclusive.
+     */
+    private final int from;
+    /**
+     * The last index to parse, exclusive.
+     */
+    private final int to;
+
+    /**
+     * Parses the texts, using the executor if specified.
+     *
+     * @param formatter  the formatter to parse with, not null
+     * @param texts  the texts to parse, no nulls, not null
+     * @param rule  the rule to derive, not null
+     * @param executor  the executor to run tasks on, null to parse on the calling thread
+     * @return the result, not null
+     */
+    static <T> BulkParseResult<T> parse(DateTimeFormatter formatter, List<? extends CharSequence> texts,
+            CalendricalRule<T> rule, ExecutorService executor) {
+        if (texts instanceof RandomAccess == false) {
+            texts = new ArrayList<CharSequence>(texts);
+        }
+        int size = texts.size();
+        Object[] values = new Object[size];
+        int[] errorIndices = new int[size];
+        int taskSize = size;
+        if (executor != null) {
+            int tasks = Runtime.getRuntime().availableProcessors() * TASKS_PER_PROCESSOR;
+            taskSize = Math.max((size + tasks - 1) / tasks, MIN_TASK_SIZE);
+        }
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        boolean complete = false;
+        try {
+            for (int from = taskSize; from < size; from += taskSize) {
+                int to = Math.min(from + taskSize, size);
+                futures.add(executor.submit(new BulkParser(formatter, texts, rule, values, errorIndices, from, to)));
+            }
+            new BulkParser(formatter, texts, rule, values, errorIndices, 0, Math.min(taskSize, size)).call();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            complete = true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CalendricalException("Parse interrupted", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CalendricalException(cause.getMessage(), cause);
+        } finally {
+            if (complete == false) {
+                for (Future<Void> future : futures) {
+                    future.cancel(false);
+                }
+            }
+        }
+        return new BulkParseResult<T>(values, errorIndices);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param formatter  the formatter to parse with, not null
+     * @param texts  the texts to parse, not null
+     * @param rule  the rule to derive, not null
+     * @param values  the parsed values, not null
+     * @param errorIndices  the error indices, not null
+     * @param from  the first index to parse, inclusive
+     * @param to  the last index to parse, exclusive
+     */
+    private BulkParser(DateTimeFormatter formatter, List<? extends CharSequence> texts, CalendricalRule<?> rule,
+            Object[] values, int[] errorIndices, int from, int to) {
+        this.formatter = formatter;
+        this.texts = texts;
+        this.rule = rule;
+        this.values = values;
+        this.errorIndices = errorIndices;
+        this.from = from;
+        this.to = to;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses the range of texts, storing the values and error indices.
+     *
+     * @return null
+     */
+    public Void call() {
+        DateTimeParseContext context = formatter.createParseContext();
+        for (int i = from; i < to; i++) {
+            CharSequence text = texts.get(i);
+            int pos = formatter.parseToContext(text, 0, context);
+            if (pos < 0) {
+                errorIndices[i] = ~pos;
+            } else if (pos < text.length()) {
+                errorIndices[i] = pos;
+            } else {
+                try {
+                    values[i] = context.toCalendricalEngine().deriveChecked(rule);
+                    errorIndices[i] = -1;
+                } catch (RuntimeException ex) {
+                    errorIndices[i] = 0;  // merge failed, as reported by parse(CharSequence, CalendricalRule)
+                }
+            }
+        }
+        return null;
+    }
+
+}
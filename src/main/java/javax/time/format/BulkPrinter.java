@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Locale;
+
+import javax.time.CalendricalException;
+import javax.time.LocalDate;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneOffset;
+import javax.time.calendrical.Calendrical;
+
+/**
+ * Prints many calendricals to a single destination.
+ * <p>
+ * A single print context and scratch buffer are used for all the values.
+ * The scratch buffer is written to the destination each time it fills, with
+ * {@code Writer} and {@code CharBuffer} destinations receiving the characters
+ * directly rather than via a {@code String}.
+ * A {@code StringBuilder} destination is printed to directly.
+ * <p>
+ * Epoch-days and epoch-seconds are printed from primitive fields without
+ * creating any date or time objects when the formatter is fixed width.
+ * Otherwise, and for values outside the range of the fixed width fields,
+ * each value is converted to a {@code LocalDate} or {@code OffsetDateTime}.
+ * <p>
+ * This class is a mutable object intended for use from a single thread.
+ *
+ * @author Stephen Colebourne
+ */
+final class BulkPrinter {
+
+    /**
+     * The number of characters to buffer before writing to the destination.
+     */
+    private static final int FLUSH_SIZE = 4096;
+
+    /**
+     * The printer to use, not null.
+     */
+    private final DateTimePrinter printer;
+    /**
+     * The fixed width printer for primitive values, null if the formatter is not fixed width.
+     */
+    private final FixedWidthPrinterParser fixedWidth;
+    /**
+     * The locale to use, not null.
+     */
+    private final Locale locale;
+    /**
+     * The symbols to use, not null.
+     */
+    private final DateTimeFormatSymbols symbols;
+    /**
+     * The separator to print between values, not null.
+     */
+    private final CharSequence separator;
+    /**
+     * The destination, not null.
+     */
+    private final Appendable appendable;
+    /**
+     * The buffer to print to, the destination if it is a {@code StringBuilder}.
+     */
+    private final StringBuilder buf;
+    /**
+     * The characters to copy the buffer to, null if not required.
+     */
+    private final char[] chars;
+    /**
+     * The context, reused for each value, null until the first value is printed.
+     */
+    private DateTimePrintContext context;
+    /**
+     * Whether a value has been printed, and thus a separator is needed.
+     */
+    private boolean started;
+
+    /**
+     * Constructor.
+     *
+     * @param printer  the printer to use, not null
+     * @param fixedWidth  the fixed width printer for primitive values, null if not fixed width
+     * @param locale  the locale to use, not null
+     * @param symbols  the symbols to use, not null
+     * @param separator  the separator to print between values, not null
+     * @param appendable  the destination, not null
+     */
+    BulkPrinter(DateTimePrinter printer, FixedWidthPrinterParser fixedWidth, Locale locale,
+            DateTimeFormatSymbols symbols, CharSequence separator, Appendable appendable) {
+        this.printer = printer;
+        this.fixedWidth = fixedWidth;
+        this.locale = locale;
+        this.symbols = symbols;
+        this.separator = separator;
+        this.appendable = appendable;
+        if (appendable instanceof StringBuilder) {
+            this.buf = (StringBuilder) appendable;
+            this.chars = null;
+        } else {
+            this.buf = new StringBuilder(FLUSH_SIZE + 64);
+            this.chars = (appendable instanceof Writer || appendable instanceof CharBuffer ? new char[FLUSH_SIZE + 64] : null);
+        }
+    }
+
+    /**
+     * Prints a calendrical, preceded by the separator if it is not the first value.
+     * <p>
+     * If the calendrical cannot be printed, nothing is added for it and the
+     * values printed so far remain buffered.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @throws IOException if an error occurs writing to the destination
+     * @throws CalendricalException if an error occurs during printing
+     */
+    void print(Calendrical calendrical) throws IOException {
+        int mark = startValue();
+        if (context == null) {
+            context = new DateTimePrintContext(calendrical, locale, symbols);
+        } else {
+            context.setCalendrical(calendrical);
+        }
+        try {
+            printer.print(context, buf);
+        } catch (RuntimeException ex) {
+            buf.setLength(mark);
+            throw ex;
+        }
+        endValue();
+    }
+
+    /**
+     * Prints an epoch-day as a date, preceded by the separator if it is not the first value.
+     *
+     * @param epochDay  the epoch-day to print
+     * @throws IOException if an error occurs writing to the destination
+     * @throws CalendricalException if an error occurs during printing
+     */
+    void printEpochDay(long epochDay) throws IOException {
+        if (fixedWidth != null) {
+            int mark = startValue();
+            if (fixedWidth.printEpochDay(epochDay, symbols, buf)) {
+                endValue();
+                return;
+            }
+            buf.setLength(mark);
+        }
+        print(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Prints an epoch-second as a date-time, preceded by the separator if it is not the first value.
+     *
+     * @param epochSecond  the epoch-second to print
+     * @param offset  the offset to print the date-time in, not null
+     * @throws IOException if an error occurs writing to the destination
+     * @throws CalendricalException if an error occurs during printing
+     */
+    void printEpochSecond(long epochSecond, ZoneOffset offset) throws IOException {
+        if (fixedWidth != null) {
+            int mark = startValue();
+            if (fixedWidth.printEpochSecond(epochSecond, offset, symbols, buf)) {
+                endValue();
+                return;
+            }
+            buf.setLength(mark);
+        }
+        print(OffsetDateTime.ofEpochSecond(epochSecond, offset));
+    }
+
+    /**
+     * Starts a value, printing the separator if it is not the first value.
+     *
+     * @return the length of the buffer before the value, to truncate to on failure
+     */
+    private int startValue() {
+        int mark = buf.length();
+        if (started) {
+            buf.append(separator);
+        }
+        return mark;
+    }
+
+    /**
+     * Ends a successfully printed value, writing to the destination if the buffer is full.
+     *
+     * @throws IOException if an error occurs writing to the destination
+     */
+    private void endValue() throws IOException {
+        started = true;
+        if (buf != appendable && buf.length() >= FLUSH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes any buffered characters to the destination.
+     *
+     * @throws IOException if an error occurs writing to the destination
+     */
+    void flush() throws IOException {
+        int length = buf.length();
+        if (buf == appendable || length == 0) {
+            return;
+        }
+        if (chars != null) {
+            char[] array = (length <= chars.length ? chars : new char[length]);
+            buf.getChars(0, length, array, 0);
+            if (appendable instanceof Writer) {
+                ((Writer) appendable).write(array, 0, length);
+            } else {
+                ((CharBuffer) appendable).put(array, 0, length);
+            }
+        } else {
+            appendable.append(buf);
+        }
+        buf.setLength(0);
+    }
+
+}
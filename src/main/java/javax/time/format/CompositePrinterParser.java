@@ -55,6 +55,10 @@ final class CompositePrinterParser implements DateTimePrinter, DateTimeParser {
      * Whether the print and parse are optional.
      */
     private final boolean optional;
+    /**
+     * The specialized printer-parser, null if not fixed width.
+     */
+    private final FixedWidthPrinterParser fixedWidth;
 
     /**
      * Constructor.
@@ -67,6 +71,11 @@ final class CompositePrinterParser implements DateTimePrinter, DateTimeParser {
         this.printers = printers.contains(null) ? null : printers.toArray(new DateTimePrinter[printers.size()]);
         this.parsers = parsers.contains(null) ? null : parsers.toArray(new DateTimeParser[parsers.size()]);
         this.optional = optional;
+        if (optional || this.printers == null || this.parsers == null || Arrays.equals(this.printers, this.parsers) == false) {
+            this.fixedWidth = null;
+        } else {
+            this.fixedWidth = FixedWidthPrinterParser.of(this.parsers);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -94,6 +103,9 @@ final class CompositePrinterParser implements DateTimePrinter, DateTimeParser {
         if (printers == null) {
             throw new UnsupportedOperationException("Formatter does not support printing");
         }
+        if (fixedWidth != null && fixedWidth.print(context.getCalendrical(), context.getSymbols(), buf)) {
+            return true;
+        }
         int length = buf.length();
         if (optional) {
             context.startOptional();
@@ -147,6 +159,16 @@ final class CompositePrinterParser implements DateTimePrinter, DateTimeParser {
         }
     }
 
+    /**
+     * Gets the specialized printer-parser used if this composite consists only of
+     * fixed width numbers and character literals.
+     *
+     * @return the fixed width printer-parser, null if not applicable
+     */
+    FixedWidthPrinterParser getFixedWidth() {
+        return fixedWidth;
+    }
+
     //-----------------------------------------------------------------------
     /** {@inheritDoc} */
     @Override
@@ -37,10 +37,17 @@ import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
 
 import javax.time.CalendricalException;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
 import javax.time.MathUtils;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneOffset;
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalEngine;
 import javax.time.calendrical.CalendricalRule;
@@ -81,6 +88,10 @@ public final class DateTimeFormatter {
      * The printer and/or parser to use, not null.
      */
     private final CompositePrinterParser printerParser;
+    /**
+     * The parser of primitive values, null if the formatter is not fixed width.
+     */
+    private final FixedWidthPrinterParser fixedWidthParser;
 
     /**
      * Constructor.
@@ -93,6 +104,7 @@ public final class DateTimeFormatter {
         this.locale = locale;
         this.symbols = symbols;
         this.printerParser = printerParser;
+        this.fixedWidthParser = printerParser.getFixedWidth();
     }
 
     //-----------------------------------------------------------------------
@@ -215,6 +227,129 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Prints each calendrical to an {@code Appendable} using this formatter,
+     * with a separator between each value.
+     * <p>
+     * This is intended for bulk output, such as CSV export, where a large number
+     * of values are printed to the same destination. A single print context and
+     * scratch buffer are used for all the values. A {@code StringBuilder} is printed
+     * to directly, while other destinations receive the output in large blocks.
+     * Output to a {@code Writer} or {@code CharBuffer} is written from a character
+     * array rather than via a {@code String}.
+     * <p>
+     * If a value cannot be printed, the values before it are output and the exception thrown.
+     * Any {@code IOException} is wrapped as described in {@link #printTo(Calendrical, Appendable)}.
+     *
+     * @param calendricals  the calendricals to print, no nulls, not null
+     * @param separator  the separator to print between values, not null
+     * @param appendable  the appendable to print to, not null
+     * @throws UnsupportedOperationException if this formatter cannot print
+     * @throws CalendricalException if an error occurs during printing
+     */
+    public void printAllTo(Iterable<? extends Calendrical> calendricals, CharSequence separator, Appendable appendable) {
+        MathUtils.checkNotNull(calendricals, "Calendricals must not be null");
+        BulkPrinter printer = createBulkPrinter(separator, appendable);
+        try {
+            try {
+                for (Calendrical calendrical : calendricals) {
+                    printer.print(calendrical);
+                }
+            } finally {
+                printer.flush();
+            }
+        } catch (IOException ex) {
+            throw new CalendricalPrintException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Prints each calendrical to an {@code Appendable} using this formatter,
+     * with a separator between each value.
+     * <p>
+     * This behaves as per {@link #printAllTo(Iterable, CharSequence, Appendable)}.
+     *
+     * @param calendricals  the calendricals to print, no nulls, not null
+     * @param separator  the separator to print between values, not null
+     * @param appendable  the appendable to print to, not null
+     * @throws UnsupportedOperationException if this formatter cannot print
+     * @throws CalendricalException if an error occurs during printing
+     */
+    public void printAllTo(Calendrical[] calendricals, CharSequence separator, Appendable appendable) {
+        MathUtils.checkNotNull(calendricals, "Calendricals must not be null");
+        printAllTo(Arrays.asList(calendricals), separator, appendable);
+    }
+
+    /**
+     * Prints each epoch-day as a date to an {@code Appendable} using this formatter,
+     * with a separator between each value.
+     * <p>
+     * Each value is printed as per {@code LocalDate.ofEpochDay(epochDay)}.
+     * If this formatter only prints fixed width numbers and literals, the date fields are
+     * printed directly from the epoch-day without creating a {@code LocalDate}.
+     * This otherwise behaves as per {@link #printAllTo(Iterable, CharSequence, Appendable)}.
+     *
+     * @param epochDays  the epoch-days to print, not null
+     * @param separator  the separator to print between values, not null
+     * @param appendable  the appendable to print to, not null
+     * @throws UnsupportedOperationException if this formatter cannot print
+     * @throws CalendricalException if an error occurs during printing
+     */
+    public void printEpochDaysTo(long[] epochDays, CharSequence separator, Appendable appendable) {
+        MathUtils.checkNotNull(epochDays, "Epoch days must not be null");
+        BulkPrinter printer = createBulkPrinter(separator, appendable);
+        try {
+            try {
+                for (long epochDay : epochDays) {
+                    printer.printEpochDay(epochDay);
+                }
+            } finally {
+                printer.flush();
+            }
+        } catch (IOException ex) {
+            throw new CalendricalPrintException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Prints each epoch-second as a date-time to an {@code Appendable} using this formatter,
+     * with a separator between each value.
+     * <p>
+     * Each value is printed as per {@code OffsetDateTime.ofEpochSecond(epochSecond, offset)}.
+     * If this formatter only prints fixed width numbers and literals, the date and time fields
+     * are printed directly from the epoch-second without creating an {@code OffsetDateTime}.
+     * This otherwise behaves as per {@link #printAllTo(Iterable, CharSequence, Appendable)}.
+     *
+     * @param epochSeconds  the epoch-seconds to print, not null
+     * @param offset  the offset to print the date-times in, not null
+     * @param separator  the separator to print between values, not null
+     * @param appendable  the appendable to print to, not null
+     * @throws UnsupportedOperationException if this formatter cannot print
+     * @throws CalendricalException if an error occurs during printing
+     */
+    public void printEpochSecondsTo(long[] epochSeconds, ZoneOffset offset, CharSequence separator, Appendable appendable) {
+        MathUtils.checkNotNull(epochSeconds, "Epoch seconds must not be null");
+        MathUtils.checkNotNull(offset, "ZoneOffset must not be null");
+        BulkPrinter printer = createBulkPrinter(separator, appendable);
+        try {
+            try {
+                for (long epochSecond : epochSeconds) {
+                    printer.printEpochSecond(epochSecond, offset);
+                }
+            } finally {
+                printer.flush();
+            }
+        } catch (IOException ex) {
+            throw new CalendricalPrintException(ex.getMessage(), ex);
+        }
+    }
+
+    private BulkPrinter createBulkPrinter(CharSequence separator, Appendable appendable) {
+        MathUtils.checkNotNull(separator, "Separator must not be null");
+        MathUtils.checkNotNull(appendable, "Appendable must not be null");
+        return new BulkPrinter(printerParser, fixedWidthParser, locale, symbols, separator, appendable);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks whether this formatter can parse.
@@ -321,6 +456,102 @@ public final class DateTimeFormatter {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Fully parses the text producing an epoch-day.
+     * <p>
+     * This produces the same result as {@code parse(text, LocalDate.rule()).toEpochDay()}.
+     * Where the formatter consists only of fixed width numbers and character literals,
+     * such as {@code yyyy-MM-dd}, the text is parsed without creating any objects.
+     *
+     * @param text  the text to parse, not null
+     * @return the epoch-day of the parsed date
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalParseException if the parse fails
+     */
+    public long parseEpochDay(CharSequence text) {
+        MathUtils.checkNotNull(text, "Text must not be null");
+        if (fixedWidthParser != null) {
+            long epochDay = fixedWidthParser.parseEpochDay(text, symbols);
+            if (epochDay != Long.MIN_VALUE) {
+                return epochDay;
+            }
+        }
+        return parse(text, LocalDate.rule()).toEpochDay();
+    }
+
+    /**
+     * Fully parses the text producing a nano-of-day.
+     * <p>
+     * This produces the same result as {@code parse(text, LocalTime.rule()).toNanoOfDay()}.
+     * Where the formatter consists only of fixed width numbers and character literals,
+     * such as {@code HH:mm:ss}, the text is parsed without creating any objects.
+     *
+     * @param text  the text to parse, not null
+     * @return the nano-of-day of the parsed time
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalParseException if the parse fails
+     */
+    public long parseNanoOfDay(CharSequence text) {
+        MathUtils.checkNotNull(text, "Text must not be null");
+        if (fixedWidthParser != null) {
+            long nanoOfDay = fixedWidthParser.parseNanoOfDay(text, symbols);
+            if (nanoOfDay >= 0) {
+                return nanoOfDay;
+            }
+        }
+        return parse(text, LocalTime.rule()).toNanoOfDay();
+    }
+
+    /**
+     * Fully parses the text producing an epoch-second and nano-of-second.
+     * <p>
+     * The text is parsed to an {@code OffsetDateTime}, using the specified offset
+     * if the text does not contain one, and the epoch-second returned.
+     * The nano-of-second is stored in the first element of the array, if specified.
+     * Where the formatter consists only of fixed width numbers and character literals,
+     * such as {@code yyyyMMddHHmmss}, the text is parsed without creating any objects.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the offset to use if the text does not contain one, not null
+     * @param nanoOfSecond  the array to store the nano-of-second in, null if not required
+     * @return the epoch-second of the parsed date-time
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalParseException if the parse fails
+     */
+    public long parseEpochSecond(CharSequence text, ZoneOffset offset, int[] nanoOfSecond) {
+        MathUtils.checkNotNull(text, "Text must not be null");
+        MathUtils.checkNotNull(offset, "ZoneOffset must not be null");
+        if (fixedWidthParser != null) {
+            long epochSecond = fixedWidthParser.parseEpochSecond(text, symbols, offset);
+            if (epochSecond != Long.MIN_VALUE) {
+                if (nanoOfSecond != null) {
+                    nanoOfSecond[0] = fixedWidthParser.nanoOfSecond(text, symbols);
+                }
+                return epochSecond;
+            }
+        }
+        String str = text.toString();  // parsing whole String, so this makes sense
+        OffsetDateTime odt;
+        try {
+            CalendricalEngine engine = parseToEngine(str);
+            odt = engine.derive(OffsetDateTime.rule());
+            if (odt == null) {
+                odt = OffsetDateTime.of(engine.deriveChecked(LocalDateTime.rule()), offset);
+            }
+        } catch (UnsupportedOperationException ex) {
+            throw ex;
+        } catch (CalendricalParseException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw createError(str, ex);
+        }
+        if (nanoOfSecond != null) {
+            nanoOfSecond[0] = odt.getNanoOfSecond();
+        }
+        return odt.toEpochSecond();
+    }
+
     private CalendricalParseException createError(String str, RuntimeException ex) {
         String abbr = str;
         if (abbr.length() > 64) {
@@ -329,6 +560,84 @@ public final class DateTimeFormatter {
         return new CalendricalParseException("Text '" + abbr + "' could not be parsed: " + ex.getMessage(), str, 0, ex);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Fully parses each text producing an object of the type defined by the rule,
+     * recording failures rather than throwing an exception.
+     * <p>
+     * Each text is parsed as per {@link #parse(CharSequence, CalendricalRule)}.
+     * Where a text fails to parse, the result holds the index within the text at
+     * which the error occurred instead of a value.
+     * A single parse context is used for all the texts.
+     *
+     * @param texts  the texts to parse, no nulls, not null
+     * @param rule  the rule defining the type to produce, not null
+     * @return the result holding the parsed values and error indices, not null
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     */
+    public <T> BulkParseResult<T> parseAll(List<? extends CharSequence> texts, CalendricalRule<T> rule) {
+        MathUtils.checkNotNull(texts, "Texts must not be null");
+        MathUtils.checkNotNull(rule, "CalendricalRule must not be null");
+        return BulkParser.parse(this, texts, rule, null);
+    }
+
+    /**
+     * Fully parses each text producing an object of the type defined by the rule,
+     * splitting the work across the threads of an executor.
+     * <p>
+     * This behaves as per {@link #parseAll(List, CalendricalRule)}.
+     * The texts are divided into contiguous ranges, one range being parsed by the calling
+     * thread and the others submitted to the executor, such as a {@code ForkJoinPool}.
+     * Each range uses a single parse context. This method blocks until all the ranges are parsed.
+     *
+     * @param texts  the texts to parse, no nulls, not null
+     * @param rule  the rule defining the type to produce, not null
+     * @param executor  the executor to parse with, not null
+     * @return the result holding the parsed values and error indices, not null
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalException if the calling thread is interrupted
+     */
+    public <T> BulkParseResult<T> parseAll(List<? extends CharSequence> texts, CalendricalRule<T> rule, ExecutorService executor) {
+        MathUtils.checkNotNull(texts, "Texts must not be null");
+        MathUtils.checkNotNull(rule, "CalendricalRule must not be null");
+        MathUtils.checkNotNull(executor, "ExecutorService must not be null");
+        return BulkParser.parse(this, texts, rule, executor);
+    }
+
+    /**
+     * Fully parses each text producing an object of the type defined by the rule,
+     * recording failures rather than throwing an exception.
+     * <p>
+     * This behaves as per {@link #parseAll(List, CalendricalRule)}.
+     *
+     * @param texts  the texts to parse, no nulls, not null
+     * @param rule  the rule defining the type to produce, not null
+     * @return the result holding the parsed values and error indices, not null
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     */
+    public <T> BulkParseResult<T> parseAll(CharSequence[] texts, CalendricalRule<T> rule) {
+        MathUtils.checkNotNull(texts, "Texts must not be null");
+        return parseAll(Arrays.asList(texts), rule);
+    }
+
+    /**
+     * Fully parses each text producing an object of the type defined by the rule,
+     * splitting the work across the threads of an executor.
+     * <p>
+     * This behaves as per {@link #parseAll(List, CalendricalRule, ExecutorService)}.
+     *
+     * @param texts  the texts to parse, no nulls, not null
+     * @param rule  the rule defining the type to produce, not null
+     * @param executor  the executor to parse with, not null
+     * @return the result holding the parsed values and error indices, not null
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalException if the calling thread is interrupted
+     */
+    public <T> BulkParseResult<T> parseAll(CharSequence[] texts, CalendricalRule<T> rule, ExecutorService executor) {
+        MathUtils.checkNotNull(texts, "Texts must not be null");
+        return parseAll(Arrays.asList(texts), rule, executor);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Mid-level parser, performing the first two phases of parsing.
@@ -351,19 +660,19 @@ public final class DateTimeFormatter {
     public CalendricalEngine parseToEngine(CharSequence text) {
         MathUtils.checkNotNull(text, "Text must not be null");
         String str = text.toString();  // parsing whole String, so this makes sense
-        ParsePosition pos = new ParsePosition(0);
-        DateTimeParseContext result = parseToContext(str, pos);
-        if (pos.getErrorIndex() >= 0 || pos.getIndex() < str.length()) {
+        DateTimeParseContext result = createParseContext();
+        int pos = parseToContext(str, 0, result);
+        if (pos < 0 || pos < str.length()) {
             String abbr = str.toString();
             if (abbr.length() > 64) {
                 abbr = abbr.substring(0, 64) + "...";
             }
-            if (pos.getErrorIndex() >= 0) {
+            if (pos < 0) {
                 throw new CalendricalParseException("Text '" + abbr + "' could not be parsed at index " +
-                        pos.getErrorIndex(), str, pos.getErrorIndex());
+                        ~pos, str, ~pos);
             } else {
                 throw new CalendricalParseException("Text '" + abbr + "' could not be parsed, unparsed text found at index " +
-                        pos.getIndex(), str, pos.getIndex());
+                        pos, str, pos);
             }
         }
         return result.toCalendricalEngine();
@@ -398,9 +707,8 @@ public final class DateTimeFormatter {
     public DateTimeParseContext parseToContext(CharSequence text, ParsePosition position) {
         MathUtils.checkNotNull(text, "Text must not be null");
         MathUtils.checkNotNull(position, "ParsePosition must not be null");
-        DateTimeParseContext context = new DateTimeParseContext(locale, symbols);
-        int pos = position.getIndex();
-        pos = printerParser.parse(context, text, pos);
+        DateTimeParseContext context = createParseContext();
+        int pos = parseToContext(text, position.getIndex(), context);
         if (pos < 0) {
             position.setErrorIndex(~pos);
             return null;
@@ -409,6 +717,51 @@ public final class DateTimeFormatter {
         return context;
     }
 
+    /**
+     * Low-level parser, performing the first phase of parsing into a caller-supplied context.
+     * <p>
+     * This performs the same parse as {@link #parseToContext(CharSequence, ParsePosition)}
+     * but stores the result in the specified context rather than a new one.
+     * The context is reset and set to the locale and symbols of this formatter before
+     * parsing, allowing a single context to be reused for many parses on one thread.
+     * The parsed fields can then be read from the context, for example using
+     * {@link DateTimeParseContext#getParsedValue(javax.time.calendrical.DateTimeRule)}, without creating
+     * any further objects.
+     * <p>
+     * This method does not throw {@link CalendricalParseException}.
+     * Instead, the result indicates success or failure.
+     * Callers must check for errors before using the context.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from
+     * @param context  the context to parse into, reset before use, not null
+     * @return the position after the parsed text, or the complement of the
+     *  error position if negative
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws IndexOutOfBoundsException if the position is invalid
+     */
+    public int parseToContext(CharSequence text, int position, DateTimeParseContext context) {
+        MathUtils.checkNotNull(text, "Text must not be null");
+        MathUtils.checkNotNull(context, "DateTimeParseContext must not be null");
+        context.reset();
+        context.setLocale(locale);
+        context.setSymbols(symbols);
+        return printerParser.parse(context, text, position);
+    }
+
+    /**
+     * Creates a new parse context using the locale and symbols of this formatter.
+     * <p>
+     * The context may be passed to {@link #parseToContext(CharSequence, int, DateTimeParseContext)}
+     * repeatedly to avoid creating a context for each parse.
+     * The context is mutable and must only be used by one thread at a time.
+     *
+     * @return a new parse context, not null
+     */
+    public DateTimeParseContext createParseContext() {
+        return new DateTimeParseContext(locale, symbols);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns the formatter as a composite printer parser.
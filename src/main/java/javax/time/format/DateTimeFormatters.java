@@ -59,6 +59,15 @@ import javax.time.calendrical.DateTimeRule;
  */
 public final class DateTimeFormatters {
 
+    /**
+     * The maximum number of pattern formatters to cache.
+     */
+    private static final int PATTERN_CACHE_SIZE = 100;
+    /**
+     * The cache of formatters created from patterns.
+     */
+    private static final PatternFormatterCache PATTERN_CACHE = new PatternFormatterCache(PATTERN_CACHE_SIZE);
+
     /**
      * Private constructor since this is a utility class.
      */
@@ -193,6 +202,9 @@ public final class DateTimeFormatters {
      * Number types will reject large numbers.
      * The pattern is also similar, but not identical, to that defined by the
      * Unicode Common Locale Data Repository.
+     * <p>
+     * The most recently used formatters are cached by pattern and locale,
+     * so repeated calls with the same pattern do not parse it again.
      *
      * @param pattern  the pattern to use, not null
      * @return the formatter based on the pattern, not null
@@ -200,7 +212,7 @@ public final class DateTimeFormatters {
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter pattern(String pattern) {
-        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter();
+        return pattern(pattern, Locale.getDefault());
     }
 
     /**
@@ -221,7 +233,45 @@ public final class DateTimeFormatters {
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter pattern(String pattern, Locale locale) {
-        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+        MathUtils.checkNotNull(pattern, "Pattern must not be null");
+        MathUtils.checkNotNull(locale, "Locale must not be null");
+        return PATTERN_CACHE.get(pattern, locale);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of calls to {@code pattern()} that found a cached formatter.
+     * <p>
+     * The counters are cumulative for the lifetime of the class loader.
+     * Together with the miss and eviction counts they allow the effectiveness
+     * of the cache to be monitored.
+     *
+     * @return the number of cache hits, zero or greater
+     */
+    public static long getPatternCacheHitCount() {
+        return PATTERN_CACHE.getHitCount();
+    }
+
+    /**
+     * Gets the number of calls to {@code pattern()} that had to parse the pattern.
+     * <p>
+     * This includes calls where the pattern was invalid.
+     *
+     * @return the number of cache misses, zero or greater
+     */
+    public static long getPatternCacheMissCount() {
+        return PATTERN_CACHE.getMissCount();
+    }
+
+    /**
+     * Gets the number of formatters evicted from the pattern cache.
+     * <p>
+     * A formatter is evicted when it is the least recently used and the cache is full.
+     *
+     * @return the number of evictions, zero or greater
+     */
+    public static long getPatternCacheEvictionCount() {
+        return PATTERN_CACHE.getEvictionCount();
     }
 
     //-----------------------------------------------------------------------
@@ -31,10 +31,13 @@
  */
 package javax.time.format;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
+import javax.time.CalendricalException;
 import javax.time.MathUtils;
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalEngine;
@@ -51,9 +54,17 @@ import javax.time.calendrical.DateTimeRule;
  * Once parsing is complete, the {@link #toCalendricalEngine()} is typically used
  * to obtain a merger that will merge the separate parsed fields into meaningful values.
  * <p>
+ * Parsed fields are held as primitive rule-value pairs, with {@code DateTimeField}
+ * instances only created when requested. The primitive values can be read using
+ * {@link #containsParsed(DateTimeRule)} and {@link #getParsedValue(DateTimeRule)}.
+ * <p>
  * This class is a mutable context intended for use from a single thread.
  * Usage of the class is thread-safe within standard parsing as the framework creates
- * a new instance of the class for each parse and parsing is single-threaded
+ * a new instance of the class for each parse and parsing is single-threaded.
+ * Applications parsing many strings on one thread may instead obtain a context from
+ * {@link DateTimeFormatter#createParseContext()} and pass it to
+ * {@link DateTimeFormatter#parseToContext(CharSequence, int, DateTimeParseContext)}
+ * for each parse, which resets it before use.
  *
  * @author Michael Nascimento Santos
  * @author Stephen Colebourne
@@ -77,9 +88,13 @@ public final class DateTimeParseContext {
      */
     private boolean strict = true;
     /**
-     * The list of parsed data.
+     * The stack of parsed data, retained between parses for reuse.
      */
     private final ArrayList<Parsed> calendricals = new ArrayList<Parsed>();
+    /**
+     * The index of the active parsed data in the stack.
+     */
+    private int depth;
 
     /**
      * Creates a new instance of the context.
@@ -96,6 +111,23 @@ public final class DateTimeParseContext {
         calendricals.add(new Parsed());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Resets the context so that it can be used for another parse.
+     * <p>
+     * All parsed data is discarded and the context is returned to case sensitive,
+     * strict parsing. The locale and symbols are unaltered.
+     * The internal storage is retained, avoiding allocation on the next parse.
+     */
+    public void reset() {
+        for (Parsed parsed : calendricals) {
+            parsed.clear();
+        }
+        depth = 0;
+        caseSensitive = true;
+        strict = true;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the locale.
@@ -227,7 +259,12 @@ public final class DateTimeParseContext {
      * Starts the parsing of an optional segment of the input.
      */
     void startOptional() {
-        calendricals.add(currentCalendrical().clone());
+        Parsed current = currentCalendrical();
+        depth++;
+        if (depth == calendricals.size()) {
+            calendricals.add(new Parsed());
+        }
+        calendricals.get(depth).copyFrom(current);
     }
 
     /**
@@ -237,10 +274,11 @@ public final class DateTimeParseContext {
      */
     void endOptional(boolean successful) {
         if (successful) {
-            calendricals.remove(calendricals.size() - 2);
-        } else {
-            calendricals.remove(calendricals.size() - 1);
+            Parsed optional = calendricals.get(depth);
+            calendricals.set(depth, calendricals.get(depth - 1));
+            calendricals.set(depth - 1, optional);
         }
+        depth--;
     }
 
     //-----------------------------------------------------------------------
@@ -250,7 +288,7 @@ public final class DateTimeParseContext {
      * @return the current calendrical, not null
      */
     private Parsed currentCalendrical() {
-        return calendricals.get(calendricals.size() - 1);
+        return calendricals.get(depth);
     }
 
     //-----------------------------------------------------------------------
@@ -266,15 +304,44 @@ public final class DateTimeParseContext {
      * @return the value mapped to the specified rule, null if rule not in the map
      */
     public DateTimeField getParsed(DateTimeRule rule) {
-        for (Calendrical cal : currentCalendrical().calendricals) {
-            if (cal instanceof DateTimeField) {
-                DateTimeField field = (DateTimeField) cal;
-                if (field.getRule().equals(rule)) {
-                    return field;
-                }
-            }
+        Parsed parsed = currentCalendrical();
+        int index = parsed.indexOf(rule);
+        return (index >= 0 ? (DateTimeField) parsed.get(index) : null);
+    }
+
+    /**
+     * Checks if a field with the specified rule has been parsed.
+     * <p>
+     * This searches the list of parsed calendricals for a field with the specified rule.
+     * No attempt is made to derive a value and no objects are created.
+     *
+     * @param rule  the rule to query, null returns false
+     * @return true if a field with the rule has been parsed
+     */
+    public boolean containsParsed(DateTimeRule rule) {
+        return currentCalendrical().indexOf(rule) >= 0;
+    }
+
+    /**
+     * Gets the value of the first field matching the specified rule.
+     * <p>
+     * This searches the list of parsed calendricals, returning the value of the first
+     * field that has the specified rule. No attempt is made to derive a value and
+     * no objects are created. The value may be out of range for the rule.
+     * For example, the day-of-month might be set to 50, or the hour to 1000.
+     *
+     * @param rule  the rule to query, not null
+     * @return the value of the first field with the specified rule, may be outside the valid range for the rule
+     * @throws CalendricalException if no field with the rule has been parsed
+     */
+    public long getParsedValue(DateTimeRule rule) {
+        MathUtils.checkNotNull(rule, "DateTimeRule must not be null");
+        Parsed parsed = currentCalendrical();
+        int index = parsed.indexOf(rule);
+        if (index < 0) {
+            throw new CalendricalException("Field not parsed: " + rule.getName());
         }
-        return null;
+        return parsed.values[index];
     }
 
     /**
@@ -290,9 +357,10 @@ public final class DateTimeParseContext {
      */
     @SuppressWarnings("unchecked")
     public <T> T getParsed(Class<T> clazz) {
-        for (Calendrical cal : currentCalendrical().calendricals) {
-            if (clazz.isInstance(cal)) {
-                return (T) cal;
+        Parsed parsed = currentCalendrical();
+        for (int i = 0; i < parsed.size; i++) {
+            if (parsed.rules[i] != null ? clazz.isAssignableFrom(DateTimeField.class) : clazz.isInstance(parsed.calendricals[i])) {
+                return (T) parsed.get(i);
             }
         }
         return null;
@@ -309,7 +377,7 @@ public final class DateTimeParseContext {
      * @return the list of previously parsed calendricals, not null, no nulls
      */
     public List<Calendrical> getParsed() {
-        return currentCalendrical().calendricals;
+        return currentCalendrical();
     }
 
     /**
@@ -321,7 +389,8 @@ public final class DateTimeParseContext {
      */
     public <T> void setParsed(Calendrical calendrical) {
         MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
-        currentCalendrical().calendricals.add(calendrical);
+        Parsed parsed = currentCalendrical();
+        parsed.add(parsed.size, calendrical);
     }
 
     /**
@@ -333,8 +402,8 @@ public final class DateTimeParseContext {
      * @param value  the value to set in the rule-value map
      */
     public void setParsedField(DateTimeRule rule, long value) {
-        DateTimeField field = DateTimeField.of(rule, value);
-        currentCalendrical().calendricals.add(field);
+        MathUtils.checkNotNull(rule, "DateTimeRule must not be null");
+        currentCalendrical().addField(rule, value);
     }
 
     //-----------------------------------------------------------------------
@@ -351,8 +420,7 @@ public final class DateTimeParseContext {
      * @return a new independent engine with the parsed calendricals, not null
      */
     public CalendricalEngine toCalendricalEngine() {
-        List<Calendrical> cals = getParsed();
-        return CalendricalEngine.merge(cals.toArray(new Calendrical[cals.size()]));
+        return CalendricalEngine.merge(currentCalendrical().toArray(new Calendrical[0]));
     }
 
     //-----------------------------------------------------------------------
@@ -369,19 +437,135 @@ public final class DateTimeParseContext {
     //-----------------------------------------------------------------------
     /**
      * Temporary store of parsed data.
+     * <p>
+     * Each entry is either a field, held as a rule and value with the field object
+     * created on demand, or another calendrical. The arrays grow as necessary and
+     * are retained when cleared so that a reused context does not allocate.
      */
-    static class Parsed {
-        final List<Calendrical> calendricals = new ArrayList<Calendrical>();
-        
+    static final class Parsed extends AbstractList<Calendrical> {
+        /** The rule of each field entry, null for other calendricals. */
+        DateTimeRule[] rules = new DateTimeRule[4];
+        /** The value of each field entry. */
+        long[] values = new long[4];
+        /** The calendrical of each entry, null for field entries not yet requested. */
+        Calendrical[] calendricals = new Calendrical[4];
+        /** The number of entries. */
+        int size;
+
+        int indexOf(DateTimeRule rule) {
+            if (rule != null) {
+                for (int i = 0; i < size; i++) {
+                    if (rule.equals(rules[i])) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        void addField(DateTimeRule rule, long value) {
+            ensureCapacity(size + 1);
+            rules[size] = rule;
+            values[size] = value;
+            calendricals[size] = null;
+            size++;
+        }
+
+        void copyFrom(Parsed other) {
+            ensureCapacity(other.size);
+            System.arraycopy(other.rules, 0, rules, 0, other.size);
+            System.arraycopy(other.values, 0, values, 0, other.size);
+            System.arraycopy(other.calendricals, 0, calendricals, 0, other.size);
+            if (other.size < size) {
+                Arrays.fill(rules, other.size, size, null);
+                Arrays.fill(calendricals, other.size, size, null);
+            }
+            size = other.size;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(rules, 0, size, null);
+            Arrays.fill(calendricals, 0, size, null);
+            size = 0;
+            modCount++;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > rules.length) {
+                int newLength = Math.max(capacity, rules.length * 2);
+                rules = Arrays.copyOf(rules, newLength);
+                values = Arrays.copyOf(values, newLength);
+                calendricals = Arrays.copyOf(calendricals, newLength);
+            }
+        }
+
+        private void store(int index, Calendrical calendrical) {
+            if (calendrical instanceof DateTimeField) {
+                DateTimeField field = (DateTimeField) calendrical;
+                rules[index] = field.getRule();
+                values[index] = field.getValue();
+            } else {
+                rules[index] = null;
+                values[index] = 0;
+            }
+            calendricals[index] = calendrical;
+        }
+
+        @Override
+        public Calendrical get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            Calendrical cal = calendricals[index];
+            if (cal == null) {
+                cal = DateTimeField.of(rules[index], values[index]);
+                calendricals[index] = cal;
+            }
+            return cal;
+        }
+
         @Override
-        protected Parsed clone() {
-            Parsed cloned = new Parsed();
-            cloned.calendricals.addAll(this.calendricals);
-            return cloned;
+        public int size() {
+            return size;
         }
+
+        @Override
+        public Calendrical set(int index, Calendrical calendrical) {
+            MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
+            Calendrical old = get(index);
+            store(index, calendrical);
+            return old;
+        }
+
+        @Override
+        public void add(int index, Calendrical calendrical) {
+            MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            ensureCapacity(size + 1);
+            int moved = size - index;
+            System.arraycopy(rules, index, rules, index + 1, moved);
+            System.arraycopy(values, index, values, index + 1, moved);
+            System.arraycopy(calendricals, index, calendricals, index + 1, moved);
+            store(index, calendrical);
+            size++;
+            modCount++;
+        }
+
         @Override
-        public String toString() {
-            return calendricals.toString();
+        public Calendrical remove(int index) {
+            Calendrical old = get(index);
+            int moved = size - index - 1;
+            System.arraycopy(rules, index + 1, rules, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+            System.arraycopy(calendricals, index + 1, calendricals, index, moved);
+            size--;
+            rules[size] = null;
+            calendricals[size] = null;
+            modCount++;
+            return old;
         }
     }
 
@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_SECOND;
+import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_MINUTE;
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
+
+import java.util.Arrays;
+
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
+import javax.time.MathUtils;
+import javax.time.MonthOfYear;
+import javax.time.OffsetDate;
+import javax.time.OffsetDateTime;
+import javax.time.OffsetTime;
+import javax.time.Year;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+import javax.time.calendrical.Calendrical;
+import javax.time.calendrical.DateTimeRule;
+
+/**
+ * Prints and parses fixed width ISO fields directly from and to primitive values.
+ * <p>
+ * This is used by {@link CompositePrinterParser} and {@link DateTimeFormatter} when
+ * the formatter consists only of fixed width numbers and character literals.
+ * Standard ISO calendricals are printed from their getters into a template of the
+ * literals, without querying each rule. Text is parsed without creating a parse
+ * context or using {@code CalendricalEngine}.
+ * <p>
+ * Values that would not print as exactly the fixed width, and text that does not
+ * have exactly the expected form or that contains a value outside the valid range,
+ * are rejected so that the caller can fall back to the standard print or parse,
+ * which handles signs and reports errors.
+ * <p>
+ * FixedWidthPrinterParser is immutable and thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+final class FixedWidthPrinterParser {
+
+    /**
+     * The rules that can be printed and parsed, indexed by field.
+     */
+    private static final DateTimeRule[] RULES = {
+        YEAR, MONTH_OF_YEAR, DAY_OF_MONTH, HOUR_OF_DAY, MINUTE_OF_HOUR, SECOND_OF_MINUTE, NANO_OF_SECOND,
+    };
+    /** Index of the year. */
+    private static final int Y = 0;
+    /** Index of the month-of-year. */
+    private static final int MO = 1;
+    /** Index of the day-of-month. */
+    private static final int D = 2;
+    /** Index of the hour-of-day. */
+    private static final int H = 3;
+    /** Index of the minute-of-hour. */
+    private static final int MI = 4;
+    /** Index of the second-of-minute. */
+    private static final int S = 5;
+    /** Index of the nano-of-second. */
+    private static final int N = 6;
+    /**
+     * The first epoch-day that can be packed as yyyymmdd, 0000-01-01.
+     */
+    private static final long MIN_PACKED_EPOCH_DAY = LocalDate.epochDayOf(0, 1, 1);
+    /**
+     * The last epoch-day that can be packed as yyyymmdd, 9999-12-31.
+     */
+    private static final long MAX_PACKED_EPOCH_DAY = LocalDate.epochDayOf(9999, 12, 31);
+
+    /**
+     * The length of text that is printed and parsed.
+     */
+    private final int length;
+    /**
+     * The printed text with the literals in place, the fields being overwritten.
+     */
+    private final char[] template;
+    /**
+     * The positions of the literals.
+     */
+    private final int[] literalPositions;
+    /**
+     * The literals, matched case sensitively.
+     */
+    private final char[] literals;
+    /**
+     * The start position of each field, -1 if the field is not parsed.
+     */
+    private final int[] starts;
+    /**
+     * The width of each field.
+     */
+    private final int[] widths;
+
+    /**
+     * Obtains an instance for the specified printer-parsers, if they are all fixed width.
+     *
+     * @param parsers  the printer-parsers of a non-optional composite, not null
+     * @return the fixed width printer-parser, null if the parsers are not suitable
+     */
+    static FixedWidthPrinterParser of(DateTimeParser[] parsers) {
+        int[] starts = new int[RULES.length];
+        int[] widths = new int[RULES.length];
+        int[] literalPositions = new int[parsers.length];
+        char[] literals = new char[parsers.length];
+        Arrays.fill(starts, -1);
+        int literalCount = 0;
+        int pos = 0;
+        for (DateTimeParser parser : parsers) {
+            if (parser instanceof CharLiteralPrinterParser) {
+                literalPositions[literalCount] = pos;
+                literals[literalCount++] = ((CharLiteralPrinterParser) parser).literal;
+                pos++;
+            } else if (parser instanceof NumberPrinterParser) {
+                NumberPrinterParser pp = (NumberPrinterParser) parser;
+                int index = Arrays.asList(RULES).indexOf(pp.rule);
+                int width = pp.getFixedWidth();
+                if (index < 0 || width < 0 || width > 18 || starts[index] >= 0) {
+                    return null;
+                }
+                starts[index] = pos;
+                widths[index] = width;
+                pos += width;
+            } else {
+                return null;
+            }
+        }
+        return new FixedWidthPrinterParser(pos, Arrays.copyOf(literalPositions, literalCount),
+                Arrays.copyOf(literals, literalCount), starts, widths);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param length  the length of text that is parsed
+     * @param literalPositions  the positions of the literals, not null
+     * @param literals  the literals, not null
+     * @param starts  the start position of each field, not null
+     * @param widths  the width of each field, not null
+     */
+    private FixedWidthPrinterParser(int length, int[] literalPositions, char[] literals, int[] starts, int[] widths) {
+        this.length = length;
+        this.literalPositions = literalPositions;
+        this.literals = literals;
+        this.starts = starts;
+        this.widths = widths;
+        this.template = new char[length];
+        for (int i = 0; i < literals.length; i++) {
+            template[literalPositions[i]] = literals[i];
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints the calendrical if it is a standard ISO type and every value fits its width.
+     * <p>
+     * The buffer is unaltered if the calendrical cannot be printed.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @param symbols  the symbols to use, not null
+     * @param buf  the buffer to append to, not null
+     * @return true if printed, false if the standard print must be used
+     */
+    boolean print(Calendrical calendrical, DateTimeFormatSymbols symbols, StringBuilder buf) {
+        LocalDate date = null;
+        LocalTime time = null;
+        if (calendrical instanceof LocalDate) {
+            date = (LocalDate) calendrical;
+        } else if (calendrical instanceof LocalDateTime) {
+            date = ((LocalDateTime) calendrical).toLocalDate();
+            time = ((LocalDateTime) calendrical).toLocalTime();
+        } else if (calendrical instanceof OffsetDateTime) {
+            date = ((OffsetDateTime) calendrical).toLocalDate();
+            time = ((OffsetDateTime) calendrical).toLocalTime();
+        } else if (calendrical instanceof ZonedDateTime) {
+            date = ((ZonedDateTime) calendrical).toLocalDate();
+            time = ((ZonedDateTime) calendrical).toLocalTime();
+        } else if (calendrical instanceof LocalTime) {
+            time = (LocalTime) calendrical;
+        } else if (calendrical instanceof OffsetDate) {
+            date = ((OffsetDate) calendrical).toLocalDate();
+        } else if (calendrical instanceof OffsetTime) {
+            time = ((OffsetTime) calendrical).toLocalTime();
+        } else {
+            return false;
+        }
+        if ((date == null && hasDateField()) || (time == null && hasTimeField())) {
+            return false;
+        }
+        return print(
+                date != null ? date.getYear() : 0,
+                date != null ? date.getMonthOfYear().getValue() : 0,
+                date != null ? date.getDayOfMonth() : 0,
+                time != null ? time.getHourOfDay() : 0,
+                time != null ? time.getMinuteOfHour() : 0,
+                time != null ? time.getSecondOfMinute() : 0,
+                time != null ? time.getNanoOfSecond() : 0,
+                symbols, buf);
+    }
+
+    /**
+     * Prints the epoch-day as a date if every value fits its width.
+     * <p>
+     * The buffer is unaltered if the date cannot be printed.
+     *
+     * @param epochDay  the epoch-day to print
+     * @param symbols  the symbols to use, not null
+     * @param buf  the buffer to append to, not null
+     * @return true if printed, false if the standard print must be used
+     */
+    boolean printEpochDay(long epochDay, DateTimeFormatSymbols symbols, StringBuilder buf) {
+        if (hasTimeField() || epochDay < MIN_PACKED_EPOCH_DAY || epochDay > MAX_PACKED_EPOCH_DAY) {
+            return false;
+        }
+        int packed = LocalDate.packedDateOfEpochDay(epochDay);
+        return print(packed / 10000, packed / 100 % 100, packed % 100, 0, 0, 0, 0, symbols, buf);
+    }
+
+    /**
+     * Prints the epoch-second as a date-time at the offset if every value fits its width.
+     * <p>
+     * The buffer is unaltered if the date-time cannot be printed.
+     *
+     * @param epochSecond  the epoch-second to print
+     * @param offset  the offset to print the date-time in, not null
+     * @param symbols  the symbols to use, not null
+     * @param buf  the buffer to append to, not null
+     * @return true if printed, false if the standard print must be used
+     */
+    boolean printEpochSecond(long epochSecond, ZoneOffset offset, DateTimeFormatSymbols symbols, StringBuilder buf) {
+        long epochDay = MathUtils.floorDiv(epochSecond, MathUtils.SECONDS_PER_DAY);
+        int secsOfDay = MathUtils.floorMod(epochSecond, MathUtils.SECONDS_PER_DAY) + offset.getTotalSeconds();
+        if (secsOfDay < 0) {
+            epochDay--;
+            secsOfDay += MathUtils.SECONDS_PER_DAY;
+        } else if (secsOfDay >= MathUtils.SECONDS_PER_DAY) {
+            epochDay++;
+            secsOfDay -= MathUtils.SECONDS_PER_DAY;
+        }
+        if (epochDay < MIN_PACKED_EPOCH_DAY || epochDay > MAX_PACKED_EPOCH_DAY) {
+            return false;
+        }
+        int packed = LocalDate.packedDateOfEpochDay(epochDay);
+        return print(packed / 10000, packed / 100 % 100, packed % 100,
+                secsOfDay / MathUtils.SECONDS_PER_HOUR, (secsOfDay / MathUtils.SECONDS_PER_MINUTE) % 60, secsOfDay % 60, 0,
+                symbols, buf);
+    }
+
+    /**
+     * Prints the field values if every value fits its width.
+     *
+     * @param year  the year
+     * @param month  the month-of-year
+     * @param day  the day-of-month
+     * @param hour  the hour-of-day
+     * @param minute  the minute-of-hour
+     * @param second  the second-of-minute
+     * @param nano  the nano-of-second
+     * @param symbols  the symbols to use, not null
+     * @param buf  the buffer to append to, not null
+     * @return true if printed, false if a value does not fit its width
+     */
+    private boolean print(int year, int month, int day, int hour, int minute, int second, int nano,
+            DateTimeFormatSymbols symbols, StringBuilder buf) {
+        for (int i = 0; i < RULES.length; i++) {
+            if (starts[i] >= 0) {
+                int value = value(i, year, month, day, hour, minute, second, nano);
+                if (value < 0 || (widths[i] <= 9 && value >= NumberPrinterParser.EXCEED_POINTS[widths[i]])) {
+                    return false;
+                }
+            }
+        }
+        int base = buf.length();
+        buf.append(template);
+        char zero = symbols.getZeroDigit();
+        for (int i = 0; i < RULES.length; i++) {
+            int start = starts[i];
+            if (start >= 0) {
+                int value = value(i, year, month, day, hour, minute, second, nano);
+                for (int pos = base + start + widths[i] - 1; pos >= base + start; pos--) {
+                    buf.setCharAt(pos, (char) (zero + value % 10));
+                    value /= 10;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the value of a field.
+     *
+     * @param index  the field index
+     * @param year  the year
+     * @param month  the month-of-year
+     * @param day  the day-of-month
+     * @param hour  the hour-of-day
+     * @param minute  the minute-of-hour
+     * @param second  the second-of-minute
+     * @param nano  the nano-of-second
+     * @return the value
+     */
+    private static int value(int index, int year, int month, int day, int hour, int minute, int second, int nano) {
+        switch (index) {
+            case Y: return year;
+            case MO: return month;
+            case D: return day;
+            case H: return hour;
+            case MI: return minute;
+            case S: return second;
+            default: return nano;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses the text to an epoch-day.
+     *
+     * @param text  the text to parse, not null
+     * @param symbols  the symbols to use, not null
+     * @return the epoch-day, Long.MIN_VALUE if the text cannot be parsed by this parser
+     */
+    long parseEpochDay(CharSequence text, DateTimeFormatSymbols symbols) {
+        if (hasDate() == false || isValid(text, symbols) == false) {
+            return Long.MIN_VALUE;
+        }
+        return epochDay(text, symbols);
+    }
+
+    /**
+     * Parses the text to a nano-of-day.
+     *
+     * @param text  the text to parse, not null
+     * @param symbols  the symbols to use, not null
+     * @return the nano-of-day, -1 if the text cannot be parsed by this parser
+     */
+    long parseNanoOfDay(CharSequence text, DateTimeFormatSymbols symbols) {
+        if (hasTime() == false || isValid(text, symbols) == false) {
+            return -1;
+        }
+        return secondOfDay(text, symbols) * MathUtils.NANOS_PER_SECOND + nanoOfSecond(text, symbols);
+    }
+
+    /**
+     * Parses the text to an epoch-second.
+     * <p>
+     * The nano-of-second may then be obtained using {@link #nanoOfSecond}.
+     *
+     * @param text  the text to parse, not null
+     * @param symbols  the symbols to use, not null
+     * @param offset  the offset to apply to the parsed local date-time, not null
+     * @return the epoch-second, Long.MIN_VALUE if the text cannot be parsed by this parser
+     */
+    long parseEpochSecond(CharSequence text, DateTimeFormatSymbols symbols, ZoneOffset offset) {
+        if (hasDate() == false || hasTime() == false || isValid(text, symbols) == false) {
+            return Long.MIN_VALUE;
+        }
+        return epochDay(text, symbols) * MathUtils.SECONDS_PER_DAY +
+                secondOfDay(text, symbols) - offset.getTotalSeconds();
+    }
+
+    /**
+     * Gets the nano-of-second from text that has been successfully parsed.
+     *
+     * @param text  the parsed text, not null
+     * @param symbols  the symbols to use, not null
+     * @return the nano-of-second, zero if not parsed
+     */
+    int nanoOfSecond(CharSequence text, DateTimeFormatSymbols symbols) {
+        return (int) value(text, N, symbols);
+    }
+
+    //-----------------------------------------------------------------------
+    private boolean hasDate() {
+        return starts[Y] >= 0 && starts[MO] >= 0 && starts[D] >= 0;
+    }
+
+    private boolean hasTime() {
+        return starts[H] >= 0 && starts[MI] >= 0 && (starts[N] < 0 || starts[S] >= 0);
+    }
+
+    private boolean hasDateField() {
+        return starts[Y] >= 0 || starts[MO] >= 0 || starts[D] >= 0;
+    }
+
+    private boolean hasTimeField() {
+        return starts[H] >= 0 || starts[MI] >= 0 || starts[S] >= 0 || starts[N] >= 0;
+    }
+
+    /**
+     * Checks that the text matches the literals and digits, and that each value is valid.
+     *
+     * @param text  the text to parse, not null
+     * @param symbols  the symbols to use, not null
+     * @return true if the text can be parsed
+     */
+    private boolean isValid(CharSequence text, DateTimeFormatSymbols symbols) {
+        if (text.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < literals.length; i++) {
+            if (text.charAt(literalPositions[i]) != literals[i]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < RULES.length; i++) {
+            int start = starts[i];
+            if (start >= 0) {
+                for (int pos = start; pos < start + widths[i]; pos++) {
+                    if (symbols.convertToDigit(text.charAt(pos)) < 0) {
+                        return false;
+                    }
+                }
+                if (RULES[i].getValueRange().isValidValue(value(text, i, symbols)) == false) {
+                    return false;
+                }
+            }
+        }
+        if (starts[D] >= 0 && starts[MO] >= 0 && starts[Y] >= 0) {
+            long year = value(text, Y, symbols);
+            MonthOfYear month = MonthOfYear.of((int) value(text, MO, symbols));
+            return value(text, D, symbols) <= month.lengthInDays(Year.isLeap(year));
+        }
+        return true;
+    }
+
+    private long epochDay(CharSequence text, DateTimeFormatSymbols symbols) {
+        int year = (int) value(text, Y, symbols);
+        int month = (int) value(text, MO, symbols);
+        int day = (int) value(text, D, symbols);
+        return LocalDate.epochDayOf(year, month, day);
+    }
+
+    private long secondOfDay(CharSequence text, DateTimeFormatSymbols symbols) {
+        return value(text, H, symbols) * MathUtils.SECONDS_PER_HOUR +
+                value(text, MI, symbols) * MathUtils.SECONDS_PER_MINUTE +
+                value(text, S, symbols);
+    }
+
+    /**
+     * Gets the value of a field from text containing digits in each field.
+     *
+     * @param text  the text to parse, not null
+     * @param index  the field index
+     * @param symbols  the symbols to use, not null
+     * @return the value, zero if the field is not parsed
+     */
+    private long value(CharSequence text, int index, DateTimeFormatSymbols symbols) {
+        int start = starts[index];
+        if (start < 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int pos = start; pos < start + widths[index]; pos++) {
+            total = total * 10 + symbols.convertToDigit(text.charAt(pos));
+        }
+        return total;
+    }
+
+}
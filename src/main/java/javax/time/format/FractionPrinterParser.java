@@ -37,6 +37,8 @@ import java.math.RoundingMode;
 import javax.time.MathUtils;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
+import javax.time.calendrical.DateTimeRuleRange;
+import javax.time.calendrical.ISODateTimeRule;
 
 /**
  * Prints and parses a numeric date-time field with optional padding.
@@ -47,6 +49,18 @@ import javax.time.calendrical.DateTimeRule;
  */
 final class FractionPrinterParser implements DateTimePrinter, DateTimeParser {
 
+    /**
+     * The largest range that is converted using long arithmetic.
+     * Ranges up to this size, such as nano-of-second, cannot overflow a long when scaled by 10^9.
+     */
+    private static final long MAX_LONG_RANGE = 1000000000L;
+    /**
+     * Array of 10 to the power of n.
+     */
+    private static final int[] POWERS = {
+        1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000,
+    };
+
     /**
      * The rule to output, not null.
      */
@@ -59,6 +73,15 @@ final class FractionPrinterParser implements DateTimePrinter, DateTimeParser {
      * The maximum width, from 0 to 9.
      */
     private final int maxWidth;
+    /**
+     * The minimum value of the rule.
+     */
+    private final long minValue;
+    /**
+     * The number of values in the range of the rule, -1 if long arithmetic is not used.
+     * Only ISO rules use long arithmetic, as other rules may override the fraction conversions.
+     */
+    private final long rangeSize;
 
     /**
      * Constructor.
@@ -85,6 +108,10 @@ final class FractionPrinterParser implements DateTimePrinter, DateTimeParser {
         this.rule = rule;
         this.minWidth = minWidth;
         this.maxWidth = maxWidth;
+        DateTimeRuleRange range = rule.getValueRange();
+        this.minValue = range.getMinimum();
+        long size = range.getMaximum() - range.getMinimum() + 1;
+        this.rangeSize = (rule instanceof ISODateTimeRule && size > 0 && size <= MAX_LONG_RANGE ? size : -1);
     }
 
     //-----------------------------------------------------------------------
@@ -96,6 +123,10 @@ final class FractionPrinterParser implements DateTimePrinter, DateTimeParser {
         }
         long value = field.getValue();
         DateTimeFormatSymbols symbols = context.getSymbols();
+        if (rangeSize > 0) {
+            printFraction(rule.checkValidValue(value), symbols, buf);
+            return true;
+        }
         BigDecimal fraction = rule.convertToFraction(value);
         if (fraction.scale() == 0) {  // scale is zero if value is zero
             if (minWidth > 0) {
@@ -115,6 +146,48 @@ final class FractionPrinterParser implements DateTimePrinter, DateTimeParser {
         return true;
     }
 
+    /**
+     * Prints the fraction using long arithmetic.
+     * <p>
+     * This matches {@link DateTimeRule#convertToFraction(long)}, which is the
+     * value relative to the range to nine decimal places, rounded down.
+     *
+     * @param value  the valid value to print
+     * @param symbols  the symbols to use, not null
+     * @param buf  the buffer to append to, not null
+     */
+    private void printFraction(long value, DateTimeFormatSymbols symbols, StringBuilder buf) {
+        long digits = (value - minValue) * POWERS[9] / rangeSize;
+        int scale = 9;
+        if (digits == 0) {
+            scale = 0;
+        } else {
+            while (digits % 10 == 0) {
+                digits /= 10;
+                scale--;
+            }
+        }
+        int outputScale = Math.min(Math.max(scale, minWidth), maxWidth);
+        if (outputScale == 0) {
+            return;
+        }
+        if (outputScale < scale) {
+            digits /= POWERS[scale - outputScale];
+        } else {
+            digits *= POWERS[outputScale - scale];
+        }
+        buf.append(symbols.getDecimalSeparator());
+        char zero = symbols.getZeroDigit();
+        int start = buf.length();
+        for (int i = 0; i < outputScale; i++) {
+            buf.append(zero);
+        }
+        for (int pos = start + outputScale - 1; digits > 0; pos--) {
+            buf.setCharAt(pos, (char) (zero + digits % 10));
+            digits /= 10;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /** {@inheritDoc} */
     public int parse(DateTimeParseContext context, CharSequence text, int position) {
@@ -144,8 +217,14 @@ final class FractionPrinterParser implements DateTimePrinter, DateTimeParser {
             }
             total = total * 10 + digit;
         }
-        BigDecimal fraction = new BigDecimal(total).movePointLeft(pos - position);
-        long value = rule.convertFromFraction(fraction);
+        long value;
+        if (rangeSize > 0) {
+            // total and range are both at most 10^9, so the product cannot overflow
+            value = total * rangeSize / POWERS[pos - position] + minValue;
+        } else {
+            BigDecimal fraction = new BigDecimal(total).movePointLeft(pos - position);
+            value = rule.convertFromFraction(fraction);
+        }
         context.setParsedField(rule, value);
         return pos;
     }
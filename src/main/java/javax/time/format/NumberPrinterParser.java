@@ -31,8 +31,6 @@
  */
 package javax.time.format;
 
-import java.math.BigInteger;
-
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 
@@ -234,8 +232,8 @@ class NumberPrinterParser implements DateTimePrinter, DateTimeParser {
             return ~position;
         }
         int effMaxWidth = maxWidth + subsequentWidth;
-        long total = 0;
-        BigInteger totalBig = null;
+        long total = 0;  // accumulated as a negative number so that Long.MIN_VALUE can be parsed
+        boolean overflow = false;
         int pos = position;
         for (int pass = 0; pass < 2; pass++) {
             int maxEndPos = Math.min(pos + effMaxWidth, length);
@@ -249,13 +247,12 @@ class NumberPrinterParser implements DateTimePrinter, DateTimeParser {
                     }
                     break;
                 }
-                if ((pos - position) > 18) {
-                    if (totalBig == null) {
-                        totalBig = BigInteger.valueOf(total);
+                if (overflow == false) {
+                    if (total < (Long.MIN_VALUE + digit) / 10) {
+                        overflow = true;
+                    } else {
+                        total = total * 10 - digit;
                     }
-                    totalBig = totalBig.multiply(BigInteger.TEN).add(BigInteger.valueOf(digit));
-                } else {
-                    total = total * 10 + digit;
                 }
             }
             if (subsequentWidth > 0 && pass == 0) {
@@ -264,22 +261,14 @@ class NumberPrinterParser implements DateTimePrinter, DateTimeParser {
                 effMaxWidth = Math.max(minWidth, parseLen - subsequentWidth);
                 pos = position;
                 total = 0;
-                totalBig = null;
+                overflow = false;
             } else {
                 break;
             }
         }
         if (negative) {
-            if (totalBig != null) {
-                if (totalBig.equals(BigInteger.ZERO) && context.isStrict()) {
-                    return ~(position - 1);  // minus zero not allowed
-                }
-                totalBig = totalBig.negate();
-            } else {
-                if (total == 0 && context.isStrict()) {
-                    return ~(position - 1);  // minus zero not allowed
-                }
-                total = -total;
+            if (total == 0 && context.isStrict()) {
+                return ~(position - 1);  // minus zero not allowed
             }
         } else if (signStyle == SignStyle.EXCEEDS_PAD && context.isStrict()) {
             int parseLen = pos - position;
@@ -293,16 +282,14 @@ class NumberPrinterParser implements DateTimePrinter, DateTimeParser {
                 }
             }
         }
-        if (totalBig != null) {
-            if (totalBig.bitLength() > 63) {
-                // overflow, parse 1 less digit
-                totalBig = totalBig.divide(BigInteger.TEN);
-                pos--;
-            }
-            setValue(context, totalBig.longValue());
-        } else {
-            setValue(context, total);
+        if (negative == false && total == Long.MIN_VALUE) {
+            overflow = true;
+            total /= 10;
+        }
+        if (overflow) {
+            pos--;  // overflow, so the last digit was not accumulated and is not parsed
         }
+        setValue(context, negative ? total : -total);
         return pos;
     }
 
@@ -316,6 +303,25 @@ class NumberPrinterParser implements DateTimePrinter, DateTimeParser {
         context.setParsedField(rule, value);
     }
 
+    /**
+     * Gets the number of digits that a strict parse consumes from unsigned text,
+     * if it is always the same.
+     * <p>
+     * This is the case for a fixed width non-negative field, and for a field using
+     * {@link SignStyle#EXCEEDS_PAD}, which only accepts more digits than the minimum
+     * width when they are preceded by a sign.
+     * In both cases, a value from zero up to but excluding ten to the power of the
+     * width is printed as exactly the width, without a sign.
+     *
+     * @return the fixed width, from 1 to 19, or -1 if the width varies
+     */
+    int getFixedWidth() {
+        if (signStyle == SignStyle.EXCEEDS_PAD || (minWidth == maxWidth && signStyle == SignStyle.NOT_NEGATIVE)) {
+            return minWidth;
+        }
+        return -1;
+    }
+
     //-----------------------------------------------------------------------
     /** {@inheritDoc} */
     @Override
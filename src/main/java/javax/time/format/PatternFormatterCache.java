@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache of formatters compiled from patterns.
+ * <p>
+ * Formatters are keyed by pattern and locale.
+ * Lookups are lock-free, with each lookup stamped from a counter to record the order of access.
+ * When the cache grows beyond its maximum size the least recently used
+ * entries are evicted.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+final class PatternFormatterCache {
+
+    /**
+     * The maximum number of formatters to hold.
+     */
+    private final int maxSize;
+    /**
+     * The cached formatters.
+     */
+    private final ConcurrentMap<Key, Node> cache;
+    /**
+     * The number of lookups, also used to stamp the order of access.
+     */
+    private final AtomicLong lookups = new AtomicLong();
+    /**
+     * The number of lookups that compiled a formatter.
+     */
+    private final AtomicLong misses = new AtomicLong();
+    /**
+     * The number of formatters evicted.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize  the maximum number of formatters to hold, one or greater
+     */
+    PatternFormatterCache(int maxSize) {
+        // validated by caller
+        this.maxSize = maxSize;
+        this.cache = new ConcurrentHashMap<Key, Node>(maxSize * 2, 0.75f, 4);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the formatter for the pattern and locale, compiling it if necessary.
+     *
+     * @param pattern  the pattern to use, not null
+     * @param locale  the locale to use, not null
+     * @return the formatter based on the pattern, not null
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    DateTimeFormatter get(String pattern, Locale locale) {
+        Key key = new Key(pattern, locale);
+        long stamp = lookups.incrementAndGet();
+        Node node = cache.get(key);
+        if (node != null) {
+            node.lastAccess = stamp;
+            return node.formatter;
+        }
+        misses.incrementAndGet();
+        DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+        node = new Node(formatter, stamp);
+        Node existing = cache.putIfAbsent(key, node);
+        if (existing != null) {
+            return existing.formatter;
+        }
+        if (cache.size() > maxSize) {
+            evict();
+        }
+        return formatter;
+    }
+
+    /**
+     * Evicts the least recently used formatters until the size is within the maximum.
+     */
+    private void evict() {
+        while (cache.size() > maxSize) {
+            Entry<Key, Node> oldest = null;
+            for (Entry<Key, Node> entry : cache.entrySet()) {
+                if (oldest == null || entry.getValue().lastAccess < oldest.getValue().lastAccess) {
+                    oldest = entry;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            if (cache.remove(oldest.getKey(), oldest.getValue())) {
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of formatters currently held.
+     *
+     * @return the size, zero or greater
+     */
+    int size() {
+        return cache.size();
+    }
+
+    /**
+     * Gets the number of lookups that found a cached formatter.
+     *
+     * @return the hit count, zero or greater
+     */
+    long getHitCount() {
+        return lookups.get() - misses.get();
+    }
+
+    /**
+     * Gets the number of lookups that had to compile the pattern.
+     *
+     * @return the miss count, zero or greater
+     */
+    long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of formatters evicted to keep within the maximum size.
+     *
+     * @return the eviction count, zero or greater
+     */
+    long getEvictionCount() {
+        return evictions.get();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The key of the cache.
+     */
+    private static final class Key {
+        /** The pattern. */
+        private final String pattern;
+        /** The locale. */
+        private final Locale locale;
+
+        Key(String pattern, Locale locale) {
+            this.pattern = pattern;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+                return pattern.equals(other.pattern) && locale.equals(other.locale);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return pattern.hashCode() ^ locale.hashCode();
+        }
+    }
+
+    /**
+     * The value of the cache, tracking the last access.
+     */
+    private static final class Node {
+        /** The formatter. */
+        private final DateTimeFormatter formatter;
+        /** The stamp of the last access. */
+        private volatile long lastAccess;
+
+        Node(DateTimeFormatter formatter, long stamp) {
+            this.formatter = formatter;
+            this.lastAccess = stamp;
+        }
+    }
+
+}
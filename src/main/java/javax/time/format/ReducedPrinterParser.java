@@ -98,6 +98,11 @@ final class ReducedPrinterParser extends NumberPrinterParser {
         context.setParsedField(rule, value);
     }
 
+    @Override
+    int getFixedWidth() {
+        return -1;  // parsed value is adjusted relative to the base value
+    }
+
     //-----------------------------------------------------------------------
     /** {@inheritDoc} */
     @Override
@@ -31,13 +31,7 @@
  */
 package javax.time.format;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Set;
 
 import javax.time.ZoneId;
@@ -92,23 +86,18 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
 
     //-----------------------------------------------------------------------
     /**
-     * The cached tree to speed up parsing.
+     * The cached tree to speed up parsing, replaced when providers are registered.
      */
-    private static SubstringTree preparedTree;
-    /**
-     * The cached IDs.
-     */
-    private static Set<String> preparedIDs;  // TODO: used inside and outside sync block
+    private static volatile PreparedTree preparedTree;
 
     /**
      * This implementation looks for the longest matching string.
      * For example, parsing Etc/GMT-2 will return Etc/GMC-2 rather than just
      * Etc/GMC although both are valid.
      * <p>
-     * This implementation uses a tree to search for valid time-zone names in
-     * the parseText. The top level node of the tree has a length equal to the
-     * length of the shortest time-zone as well as the beginning characters of
-     * all other time-zones.
+     * This implementation uses a tree of characters to search for valid
+     * time-zone names in the parseText, matching directly against the text
+     * without creating any intermediate strings.
      */
     public int parse(DateTimeParseContext context, CharSequence text, int position) {
         int length = text.length();
@@ -117,22 +106,14 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
         }
         
         // setup parse tree
-        Set<String> ids = ZoneRulesGroup.getParsableIDs();
-        if (ids.size() == 0) {
+        PreparedTree prepared = getPreparedTree();
+        if (prepared.empty) {
             return ~position;
         }
-        SubstringTree tree;
-        synchronized (ZoneIdPrinterParser.class) {
-            if (preparedTree == null || preparedIDs.size() < ids.size()) {
-                ids = new HashSet<String>(ids);
-                preparedTree = prepareParser(ids);
-                preparedIDs = ids;
-            }
-            tree = preparedTree;
-        }
         
         // handle fixed time-zone ids
-        if (text.subSequence(position, text.length()).toString().startsWith("UTC")) {
+        if (position + 3 <= length && text.charAt(position) == 'U' &&
+                text.charAt(position + 1) == 'T' && text.charAt(position + 2) == 'C') {
             DateTimeParseContext newContext = new DateTimeParseContext(context.getLocale(), DateTimeFormatSymbols.STANDARD);
             int startPos = position + 3;
             int endPos = new ZoneOffsetPrinterParser("", "+HH:MM:ss").parse(newContext, text, startPos);
@@ -147,19 +128,33 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
         
         // parse
         String parsedZoneId = null;
-        while (tree != null) {
-            int nodeLength = tree.length;
-            if (position + nodeLength > length) {
+        int pos = position;
+        CharNode node = prepared.root;
+        int i = position;
+        match:
+        while (i < length) {
+            node = node.get(text.charAt(i++));
+            if (node == null) {
+                break;
+            }
+            char[] label = node.label;
+            if (i + label.length > length) {
                 break;
             }
-            parsedZoneId = text.subSequence(position, position + nodeLength).toString();
-            tree = tree.get(parsedZoneId);
+            for (int j = 0; j < label.length; j++) {
+                if (text.charAt(i++) != label[j]) {
+                    break match;
+                }
+            }
+            if (node.id != null) {
+                parsedZoneId = node.id;
+                pos = i;
+            }
         }
         
-        if (parsedZoneId != null && preparedIDs.contains(parsedZoneId)) {
+        if (parsedZoneId != null) {
             // handle zone version
             ZoneId zone = ZoneId.of(parsedZoneId);
-            int pos = position + parsedZoneId.length();
             if (pos + 1 < length && text.charAt(pos) == '#') {
                 Set<String> versions = zone.getGroup().getAvailableVersionIDs();
                 for (String version : versions) {
@@ -177,95 +172,152 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
         }
     }
 
+    /**
+     * Gets the parse tree, building it if providers have been registered.
+     *
+     * @return the parse tree, not null
+     */
+    private static PreparedTree getPreparedTree() {
+        int generation = ZoneRulesGroup.getGeneration();  // read before the IDs
+        PreparedTree tree = preparedTree;
+        if (tree == null || tree.generation != generation) {
+            CharNode root = new CharNode();
+            boolean empty = true;
+            for (String id : ZoneRulesGroup.getParsableIDs()) {
+                root.add(id);
+                empty = false;
+            }
+            root.compact();
+            tree = new PreparedTree(generation, root, empty);
+            preparedTree = tree;
+        }
+        return tree;
+    }
+
     //-----------------------------------------------------------------------
     /**
-     * Model a tree of substrings to make the parsing easier. Due to the nature
-     * of time-zone names, it can be faster to parse based in unique substrings
-     * rather than just a character by character match.
-     * <p>
-     * For example, to parse America/Denver we can look at the first two
-     * character "Am". We then notice that the shortest time-zone that starts
-     * with Am is America/Nome which is 12 characters long. Checking the first
-     * 12 characters of America/Denver gives America/Denv which is a substring
-     * of only 1 time-zone: America/Denver. Thus, with just 3 comparisons that
-     * match can be found.
+     * The parse tree for a generation of the registered providers.
      * <p>
-     * This structure maps substrings to substrings of a longer length. Each
-     * node of the tree contains a length and a map of valid substrings to
-     * sub-nodes. The parser gets the length from the root node. It then
-     * extracts a substring of that length from the parseText. If the map
-     * contains the substring, it is set as the possible time-zone and the
-     * sub-node for that substring is retrieved. The process continues until the
-     * substring is no longer found, at which point the matched text is checked
-     * against the real time-zones.
+     * The tree is not altered once built, so it can be shared between threads.
      */
-    private static final class SubstringTree {
+    private static final class PreparedTree {
         /**
-         * The length of the substring this node of the tree contains.
-         * Subtrees will have a longer length.
+         * The generation of the registered providers.
          */
-        final int length;
+        final int generation;
         /**
-         * Map of a substring to a set of substrings that contain the key.
+         * The root of the tree, not null.
          */
-        private final Map<CharSequence, SubstringTree> substringMap = new HashMap<CharSequence, SubstringTree>();
+        final CharNode root;
+        /**
+         * Whether there are no IDs.
+         */
+        final boolean empty;
 
         /**
          * Constructor.
          *
-         * @param length  the length of this tree
+         * @param generation  the generation of the registered providers
+         * @param root  the root of the tree, not null
+         * @param empty  whether there are no IDs
          */
-        private SubstringTree(int length) {
-            this.length = length;
+        PreparedTree(int generation, CharNode root, boolean empty) {
+            this.generation = generation;
+            this.root = root;
+            this.empty = empty;
         }
+    }
 
-        private SubstringTree get(CharSequence substring2) {
-            return substringMap.get(substring2);
+    /**
+     * Models a tree of characters to make the parsing easier.
+     * <p>
+     * Each node holds the characters that may follow the text matched so far,
+     * sorted so that they can be binary searched, together with the node for
+     * each character. A node at the end of a valid time-zone ID holds that ID.
+     * The parser follows the characters of the text down the tree, remembering
+     * the last ID seen, until the text no longer matches, thus finding the
+     * longest matching ID.
+     * <p>
+     * Once built, each chain of nodes with a single child and no ID is merged
+     * into one node, with the characters after the first held as a label.
+     * For example, to parse America/Denver the parser looks up 'A' and then
+     * compares the label 'merica/'. It then looks up 'D' and compares the
+     * label 'enver', finding the ID.
+     */
+    private static final class CharNode {
+        /**
+         * The characters leading to each child, sorted.
+         */
+        private char[] chars = new char[0];
+        /**
+         * The child for each character.
+         */
+        private CharNode[] children = new CharNode[0];
+        /**
+         * The characters following the character leading to this node.
+         */
+        private char[] label = new char[0];
+        /**
+         * The ID ending at this node, null if none.
+         */
+        private String id;
 
+        /**
+         * Gets the child for a character.
+         *
+         * @param ch  the character
+         * @return the child, null if no ID continues with the character
+         */
+        CharNode get(char ch) {
+            int index = Arrays.binarySearch(chars, ch);
+            return (index >= 0 ? children[index] : null);
         }
 
         /**
-         * Values must be added from shortest to longest.
+         * Adds an ID below this node.
          *
-         * @param newSubstring  the substring to add, not null
+         * @param newId  the ID to add, not null
          */
-        private void add(String newSubstring) {
-            int idLen = newSubstring.length();
-            if (idLen == length) {
-                substringMap.put(newSubstring, null);
-            } else if (idLen > length) {
-                String substring = newSubstring.substring(0, length);
-                SubstringTree parserTree = substringMap.get(substring);
-                if (parserTree == null) {
-                    parserTree = new SubstringTree(idLen);
-                    substringMap.put(substring, parserTree);
+        void add(String newId) {
+            CharNode node = this;
+            for (int i = 0; i < newId.length(); i++) {
+                char ch = newId.charAt(i);
+                int index = Arrays.binarySearch(node.chars, ch);
+                if (index < 0) {
+                    index = ~index;
+                    int size = node.chars.length;
+                    char[] newChars = new char[size + 1];
+                    CharNode[] newChildren = new CharNode[size + 1];
+                    System.arraycopy(node.chars, 0, newChars, 0, index);
+                    System.arraycopy(node.children, 0, newChildren, 0, index);
+                    System.arraycopy(node.chars, index, newChars, index + 1, size - index);
+                    System.arraycopy(node.children, index, newChildren, index + 1, size - index);
+                    newChars[index] = ch;
+                    newChildren[index] = new CharNode();
+                    node.chars = newChars;
+                    node.children = newChildren;
                 }
-                parserTree.add(newSubstring);
+                node = node.children[index];
             }
+            node.id = newId;
         }
-    }
 
-    /**
-     * Builds an optimized parsing tree.
-     *
-     * @param availableIDs  the available IDs, not null, not empty
-     * @return the tree, not null
-     */
-    private static SubstringTree prepareParser(Set<String> availableIDs) {
-        // sort by length
-        List<String> ids = new ArrayList<String>(availableIDs);
-        Collections.sort(ids, new Comparator<String>() {
-            public int compare(String str1, String str2) {
-                return str1.length() == str2.length() ? str1.compareTo(str2) : str1.length() - str2.length();
+        /**
+         * Merges each chain of nodes with a single child and no ID below this node.
+         */
+        void compact() {
+            for (int i = 0; i < children.length; i++) {
+                CharNode child = children[i];
+                StringBuilder buf = new StringBuilder();
+                while (child.id == null && child.chars.length == 1) {
+                    buf.append(child.chars[0]);
+                    child = child.children[0];
+                }
+                child.label = buf.toString().toCharArray();
+                child.compact();
+                children[i] = child;
             }
-        });
-        
-        // build the tree
-        SubstringTree tree = new SubstringTree(ids.get(0).length());
-        for (String id : ids) {
-            tree.add(id);
         }
-        return tree;
     }
 
     //-----------------------------------------------------------------------
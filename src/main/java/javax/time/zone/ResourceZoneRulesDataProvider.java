@@ -33,10 +33,15 @@ package javax.time.zone;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StreamCorruptedException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -51,6 +56,15 @@ import javax.time.CalendricalException;
 /**
  * Loads time-zone rules stored in a file accessed via class loader.
  * <p>
+ * When the file is held in a jar, the bytes of every rule are read into memory
+ * at startup. When the file is held directly on the file system, it is instead
+ * memory-mapped, with only the position of each rule held in memory.
+ * In both cases, the rules are decoded when first requested.
+ * <p>
+ * Only the latest version is decoded at startup. The regions of each older
+ * version are decoded when the version is first queried, so that startup
+ * does not depend on how many historic versions the file contains.
+ * <p>
  * This class is immutable and thread-safe.
  *
  * @author Stephen Colebourne
@@ -69,10 +83,23 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
      * All the regions in the provider.
      */
     private final Set<String> regions;
+    /**
+     * All the regions in the provider, in the order of the file.
+     */
+    private final String[] regionArray;
     /**
      * The rules.
+     * Each entry is null, the bytes of the rule or the decoded rule.
      */
     private final AtomicReferenceArray<Object> rules;
+    /**
+     * The memory-mapped file, null if the bytes of the rules were read.
+     */
+    private final ByteBuffer mapped;
+    /**
+     * The position of each rule in the memory-mapped file, null if not mapped.
+     */
+    private final int[] rulePositions;
 
     /**
      * Loads any time-zone rules data stored in files.
@@ -111,15 +138,23 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
 
     /**
      * Loads the rules from a URL, often in a jar file.
+     * <p>
+     * A URL referring to a file is memory-mapped rather than read.
      *
      * @param url  the jar file to load, not null 
      * @throws Exception if an error occurs
      */
-    private ResourceZoneRulesDataProvider(URL url) throws ClassNotFoundException, IOException {
+    ResourceZoneRulesDataProvider(URL url) throws ClassNotFoundException, IOException {
         boolean throwing = false;
         InputStream in = null;
         try {
-            in = url.openStream();
+            ByteBuffer buf = null;
+            if ("file".equals(url.getProtocol())) {
+                buf = mapFile(url);
+                in = new ByteBufferInputStream(buf);
+            } else {
+                in = url.openStream();
+            }
             DataInputStream dis = new DataInputStream(in);
             if (dis.readByte() != 1) {
                 throw new StreamCorruptedException("File format not recognised");
@@ -136,26 +171,54 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
                 regionArray[i] = dis.readUTF();
             }
             this.regions = new HashSet<String>(Arrays.asList(regionArray));
-            // link version-region-rules
+            this.regionArray = regionArray;
+            // link version-region-rules, decoding only the latest version
+            String latestVersionID = null;
+            for (String versionID : versionArray) {
+                if (latestVersionID == null || versionID.compareTo(latestVersionID) > 0) {
+                    latestVersionID = versionID;
+                }
+            }
             Set<ZoneRulesVersion> versionSet = new HashSet<ZoneRulesVersion>(versionCount);
             for (int i = 0; i < versionCount; i++) {
                 int versionRegionCount = dis.readShort();
-                String[] versionRegionArray = new String[versionRegionCount];
-                short[] versionRulesArray = new short[versionRegionCount];
-                for (int j = 0; j < versionRegionCount; j++) {
-                    versionRegionArray[j] = regionArray[dis.readShort()];
-                    versionRulesArray[j] = dis.readShort();
+                ByteBuffer table;
+                if (buf != null) {
+                    table = buf.duplicate();
+                    table.limit(buf.position() + versionRegionCount * 4);
+                    buf.position(table.limit());
+                } else {
+                    byte[] bytes = new byte[versionRegionCount * 4];
+                    dis.readFully(bytes);
+                    table = ByteBuffer.wrap(bytes);
                 }
-                versionSet.add(new ResourceZoneRulesVersion(this, versionArray[i], versionRegionArray, versionRulesArray));
+                ResourceZoneRulesVersion version = new ResourceZoneRulesVersion(this, versionArray[i], table.slice());
+                if (versionArray[i].equals(latestVersionID)) {
+                    version.decode();
+                }
+                versionSet.add(version);
             }
             this.versions = versionSet;
             // rules
             int ruleCount = dis.readShort();
             this.rules = new AtomicReferenceArray<Object>(ruleCount);
-            for (int i = 0; i < ruleCount; i++) {
-                byte[] bytes = new byte[dis.readShort()];
-                dis.readFully(bytes);
-                rules.set(i, bytes);
+            if (buf != null) {
+                int[] positions = new int[ruleCount];
+                for (int i = 0; i < ruleCount; i++) {
+                    int length = dis.readShort();
+                    positions[i] = buf.position();
+                    buf.position(positions[i] + length);
+                }
+                this.mapped = buf;
+                this.rulePositions = positions;
+            } else {
+                for (int i = 0; i < ruleCount; i++) {
+                    byte[] bytes = new byte[dis.readShort()];
+                    dis.readFully(bytes);
+                    rules.set(i, bytes);
+                }
+                this.mapped = null;
+                this.rulePositions = null;
             }
         } catch (IOException ex) {
             throwing = true;
@@ -173,6 +236,29 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
         }
     }
 
+    /**
+     * Memory-maps the file referred to by the URL.
+     *
+     * @param url  the file URL, not null
+     * @return the read-only buffer, not null
+     * @throws IOException if an error occurs
+     */
+    private static ByteBuffer mapFile(URL url) throws IOException {
+        File file;
+        try {
+            file = new File(url.toURI());
+        } catch (URISyntaxException ex) {
+            throw new IOException("Invalid file URL: " + url, ex);
+        }
+        FileInputStream in = new FileInputStream(file);
+        try {
+            FileChannel channel = in.getChannel();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());  // mapping outlives the channel
+        } finally {
+            in.close();
+        }
+    }
+
     //-----------------------------------------------------------------------
     public String getGroupID() {
         return groupID;
@@ -195,7 +281,13 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
      */
     ZoneRules loadRule(short index) throws Exception {
         Object obj = rules.get(index);
-        if (obj instanceof byte[]) {
+        if (obj == null) {
+            ByteBuffer buf = mapped.duplicate();
+            buf.position(rulePositions[index]);
+            DataInputStream dis = new DataInputStream(new ByteBufferInputStream(buf));
+            obj = Ser.read(dis);
+            rules.set(index, obj);
+        } else if (obj instanceof byte[]) {
             byte[] bytes = (byte[]) obj;
             DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes));
             obj = Ser.read(dis);
@@ -210,39 +302,93 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
         return groupID + ":#" + versions;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Input stream reading from a buffer, advancing its position.
+     */
+    static class ByteBufferInputStream extends InputStream {
+        /** Buffer. */
+        private final ByteBuffer buf;
+        /** Constructor. */
+        ByteBufferInputStream(ByteBuffer buf) {
+            this.buf = buf;
+        }
+        @Override
+        public int read() {
+            return buf.hasRemaining() ? buf.get() & 0xFF : -1;
+        }
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (buf.hasRemaining() == false) {
+                return -1;
+            }
+            len = Math.min(len, buf.remaining());
+            buf.get(bytes, off, len);
+            return len;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Version of the rules.
      * <p>
-     * ResourceZoneRulesVersion is thread-safe and immutable.
+     * The regions are held encoded as pairs of region and rule indices
+     * until first queried.
+     * <p>
+     * ResourceZoneRulesVersion is thread-safe.
      */
     static class ResourceZoneRulesVersion implements ZoneRulesVersion {
         /** Provider. */
         private final ResourceZoneRulesDataProvider provider;
         /** Version ID. */
         private final String versionID;
-        /** Region IDs. */
-        private final String[] regionArray;
-        /** Region IDs. */
-        private final short[] ruleIndices;
+        /** Encoded region and rule indices, null once decoded, guarded by this. */
+        private ByteBuffer table;
+        /** Region IDs, null until decoded. */
+        private volatile String[] regionArray;
+        /** Rule indices, matching the region IDs, published by the region IDs. */
+        private short[] ruleIndices;
         /** Constructor. */
-        ResourceZoneRulesVersion(ResourceZoneRulesDataProvider provider, String versionID, String[] regions, short[] ruleIndices) {
+        ResourceZoneRulesVersion(ResourceZoneRulesDataProvider provider, String versionID, ByteBuffer table) {
             this.provider = provider;
             this.versionID = versionID;
-            this.regionArray = regions;
-            this.ruleIndices = ruleIndices;
+            this.table = table;
+        }
+        /** Gets the region IDs, decoding them if necessary. */
+        private String[] regionArray() {
+            String[] regions = regionArray;
+            return (regions != null ? regions : decode());
+        }
+        /** Decodes the region and rule indices. */
+        private synchronized String[] decode() {
+            if (regionArray == null) {
+                int count = table.remaining() / 4;
+                String[] regions = new String[count];
+                short[] rules = new short[count];
+                for (int i = 0; i < count; i++) {
+                    regions[i] = provider.regionArray[table.getShort(i * 4)];
+                    rules[i] = table.getShort(i * 4 + 2);
+                }
+                ruleIndices = rules;
+                regionArray = regions;
+                table = null;
+            }
+            return regionArray;
         }
         public String getVersionID() {
             return versionID;
         }
         public boolean isRegionID(String regionID) {
-            return Arrays.binarySearch(regionArray, regionID) >= 0;
+            return Arrays.binarySearch(regionArray(), regionID) >= 0;
         }
         public Set<String> getRegionIDs() {
-            return Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(regionArray)));
+            return Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(regionArray())));
         }
         public ZoneRules getZoneRules(String regionID) {
-            int index = Arrays.binarySearch(regionArray, regionID);
+            int index = Arrays.binarySearch(regionArray(), regionID);
             if (index < 0) {
                 return null;
             }
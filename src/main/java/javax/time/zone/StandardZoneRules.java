@@ -41,6 +41,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.time.Instant;
 import javax.time.LocalDateTime;
@@ -92,15 +93,27 @@ final class StandardZoneRules implements ZoneRules, Serializable {
      * The wall offsets.
      */
     private final ZoneOffset[] wallOffsets;
+    /**
+     * The offset info for each wall offset, shared as they are immutable.
+     */
+    private final ZoneOffsetInfo[] wallOffsetInfos;
     /**
      * The last rule.
      */
     private final ZoneOffsetTransitionRule[] lastRules;
+    /**
+     * The offset info before and after each last rule, as a paired array.
+     */
+    private final ZoneOffsetInfo[] lastRulesOffsetInfos;
     /**
      * The map of recent transitions.
      */
     private final ConcurrentMap<Integer, ZoneOffsetTransition[]> lastRulesCache =
                 new ConcurrentHashMap<Integer, ZoneOffsetTransition[]>();
+    /**
+     * The offsets from the last rules up to the last cached year, built when first needed.
+     */
+    private transient volatile LastRulesWindow lastRulesWindow;
 
     /**
      * Creates an instance.
@@ -156,6 +169,8 @@ final class StandardZoneRules implements ZoneRules, Serializable {
             throw new IllegalArgumentException("Too many transition rules");
         }
         this.lastRules = lastRules.toArray(new ZoneOffsetTransitionRule[lastRules.size()]);
+        this.wallOffsetInfos = createOffsetInfos(wallOffsets);
+        this.lastRulesOffsetInfos = createOffsetInfos(this.lastRules);
     }
 
     /**
@@ -197,6 +212,37 @@ final class StandardZoneRules implements ZoneRules, Serializable {
             }
         }
         this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
+        this.wallOffsetInfos = createOffsetInfos(wallOffsets);
+        this.lastRulesOffsetInfos = createOffsetInfos(lastRules);
+    }
+
+    /**
+     * Creates the offset info for each offset.
+     *
+     * @param offsets  the offsets, not null
+     * @return the offset info for each offset, not null
+     */
+    private static ZoneOffsetInfo[] createOffsetInfos(ZoneOffset[] offsets) {
+        ZoneOffsetInfo[] infos = new ZoneOffsetInfo[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            infos[i] = new ZoneOffsetInfo(offsets[i], null);
+        }
+        return infos;
+    }
+
+    /**
+     * Creates the offset info before and after each rule.
+     *
+     * @param rules  the rules, not null
+     * @return the paired offset info for each rule, not null
+     */
+    private static ZoneOffsetInfo[] createOffsetInfos(ZoneOffsetTransitionRule[] rules) {
+        ZoneOffsetInfo[] infos = new ZoneOffsetInfo[rules.length * 2];
+        for (int i = 0; i < rules.length; i++) {
+            infos[i * 2] = new ZoneOffsetInfo(rules[i].getOffsetBefore(), null);
+            infos[i * 2 + 1] = new ZoneOffsetInfo(rules[i].getOffsetAfter(), null);
+        }
+        return infos;
     }
 
     //-----------------------------------------------------------------------
@@ -284,6 +330,10 @@ final class StandardZoneRules implements ZoneRules, Serializable {
         // check if using last rules
         if (lastRules.length > 0 &&
                 epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1]) {
+            ZoneOffset offset = getLastRulesWindow().getOffset(epochSec);
+            if (offset != null) {
+                return offset;
+            }
             OffsetDateTime dt = OffsetDateTime.ofInstant(instant, wallOffsets[wallOffsets.length - 1]);
             ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
             ZoneOffsetTransition trans = null;
@@ -313,8 +363,9 @@ final class StandardZoneRules implements ZoneRules, Serializable {
                 dt.isAfter(savingsLocalTransitions[savingsLocalTransitions.length - 1])) {
             ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
             ZoneOffsetInfo info = null;
-            for (ZoneOffsetTransition trans : transArray) {
-                info = findOffsetInfo(dt, trans);
+            for (int i = 0; i < transArray.length; i++) {
+                ZoneOffsetTransition trans = transArray[i];
+                info = findOffsetInfo(dt, trans, i);
                 if (info.isTransition() || info.getOffset().equals(trans.getOffsetBefore())) {
                     return info;
                 }
@@ -326,7 +377,7 @@ final class StandardZoneRules implements ZoneRules, Serializable {
         int index  = Arrays.binarySearch(savingsLocalTransitions, dt);
         if (index == -1) {
             // before first transition
-            return new ZoneOffsetInfo(wallOffsets[0], null);
+            return wallOffsetInfos[0];
         }
         if (index < 0) {
             // switch negative insert position to start of matched range
@@ -351,7 +402,7 @@ final class StandardZoneRules implements ZoneRules, Serializable {
             }
         } else {
             // normal (neither gap or overlap)
-            return new ZoneOffsetInfo(wallOffsets[index / 2 + 1], null);
+            return wallOffsetInfos[index / 2 + 1];
         }
     }
 
@@ -361,24 +412,25 @@ final class StandardZoneRules implements ZoneRules, Serializable {
      *
      * @param dt  the date-time, not null
      * @param trans  the transition, not null
+     * @param ruleIndex  the index of the last rule that created the transition
      * @return the offset info, not null
      */
-    private ZoneOffsetInfo findOffsetInfo(LocalDateTime dt, ZoneOffsetTransition trans) {
+    private ZoneOffsetInfo findOffsetInfo(LocalDateTime dt, ZoneOffsetTransition trans, int ruleIndex) {
         if (trans.isGap()) {
             if (dt.isBefore(trans.getLocal())) {
-                return new ZoneOffsetInfo(trans.getOffsetBefore(), null);
+                return lastRulesOffsetInfos[ruleIndex * 2];
             }
             if (dt.isBefore(trans.getDateTimeAfter().toLocalDateTime())) {
                 return new ZoneOffsetInfo(null, trans);
             } else {
-                return new ZoneOffsetInfo(trans.getOffsetAfter(), null);
+                return lastRulesOffsetInfos[ruleIndex * 2 + 1];
             }
         } else {
             if (dt.isBefore(trans.getLocal()) == false) {
-                return new ZoneOffsetInfo(trans.getOffsetAfter(), null);
+                return lastRulesOffsetInfos[ruleIndex * 2 + 1];
             }
             if (dt.isBefore(trans.getDateTimeAfter().toLocalDateTime())) {
-                return new ZoneOffsetInfo(trans.getOffsetBefore(), null);
+                return lastRulesOffsetInfos[ruleIndex * 2];
             } else {
                 return new ZoneOffsetInfo(null, trans);
             }
@@ -393,6 +445,10 @@ final class StandardZoneRules implements ZoneRules, Serializable {
      * @return the transition array, not null
      */
     private ZoneOffsetTransition[] findTransitionArray(int year) {
+        ZoneOffsetTransition[] windowArray = getLastRulesWindow().getTransitions(year);
+        if (windowArray != null) {
+            return windowArray;
+        }
         Integer yearObj = year;  // should use Year class, but this saves a class load
         ZoneOffsetTransition[] transArray = lastRulesCache.get(yearObj);
         if (transArray != null) {
@@ -409,6 +465,154 @@ final class StandardZoneRules implements ZoneRules, Serializable {
         return transArray;
     }
 
+    /**
+     * Gets the window of offsets defined by the last rules, building it if necessary.
+     *
+     * @return the window, not null
+     */
+    private LastRulesWindow getLastRulesWindow() {
+        LastRulesWindow window = lastRulesWindow;
+        if (window == null) {
+            window = new LastRulesWindow(this);
+            lastRulesWindow = window;
+        }
+        return window;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The offsets defined by the last rules, from the year of the last historic
+     * transition up to the last cached year, as a flat table of primitives.
+     * <p>
+     * The table stores the epoch-second at which each offset starts.
+     * Each year contributes the start of the year, as seen in the last historic
+     * wall offset, followed by its transitions. The offset from the start of the
+     * year to the first transition is the offset before that transition, and
+     * the offset after the last transition applies until the end of the year.
+     * This exactly matches the year-by-year search of the last rules.
+     * The transitions themselves are not retained by the table, those needed
+     * for local date-time lookups are created lazily for each year queried
+     * and held in an array indexed by year.
+     */
+    private static final class LastRulesWindow {
+        /**
+         * The rules, used to create transitions lazily.
+         */
+        private final ZoneOffsetTransitionRule[] lastRules;
+        /**
+         * The first year in the table.
+         */
+        private final int startYear;
+        /**
+         * The transitions for each year in the table, filled lazily.
+         */
+        private final AtomicReferenceArray<ZoneOffsetTransition[]> transitions;
+        /**
+         * The epoch-seconds at which each offset starts, in ascending order.
+         */
+        private final long[] starts;
+        /**
+         * The offset from each start.
+         */
+        private final ZoneOffset[] offsets;
+        /**
+         * The epoch-second at which the table ends, exclusive.
+         */
+        private final long end;
+
+        /**
+         * Constructor building the table from the rules.
+         *
+         * @param rules  the rules, with last rules, not null
+         */
+        LastRulesWindow(StandardZoneRules rules) {
+            ZoneOffset lastWallOffset = rules.wallOffsets[rules.wallOffsets.length - 1];
+            long lastHistoric = rules.savingsInstantTransitions[rules.savingsInstantTransitions.length - 1];
+            int startYear = OffsetDateTime.ofEpochSecond(lastHistoric, lastWallOffset).getYear();
+            int ruleCount = rules.lastRules.length;
+            int size = Math.max(LAST_CACHED_YEAR - startYear + 1, 0) * (ruleCount + 1);
+            long[] starts = new long[size];
+            ZoneOffset[] offsets = new ZoneOffset[size];
+            int pos = 0;
+            for (int year = startYear; year <= LAST_CACHED_YEAR; year++) {
+                starts[pos] = OffsetDateTime.of(year, 1, 1, 0, 0, lastWallOffset).toEpochSecond();
+                for (int i = 0; i < ruleCount; i++) {
+                    ZoneOffsetTransition trans = rules.lastRules[i].createTransition(year);
+                    offsets[pos++] = trans.getOffsetBefore();
+                    starts[pos] = trans.getInstant().getEpochSecond();
+                    offsets[pos] = trans.getOffsetAfter();
+                }
+                pos++;
+            }
+            long endSec = OffsetDateTime.of(LAST_CACHED_YEAR + 1, 1, 1, 0, 0, lastWallOffset).toEpochSecond();
+            for (int i = 1; i < size; i++) {
+                if (starts[i] < starts[i - 1]) {
+                    endSec = Long.MIN_VALUE;  // transitions out of order, so always use the rules
+                }
+            }
+            this.lastRules = rules.lastRules;
+            this.startYear = startYear;
+            this.transitions = new AtomicReferenceArray<ZoneOffsetTransition[]>(size / (ruleCount + 1));
+            this.starts = starts;
+            this.offsets = offsets;
+            this.end = (size > 0 ? endSec : Long.MIN_VALUE);
+        }
+
+        /**
+         * Gets the offset at the epoch-second.
+         *
+         * @param epochSec  the epoch-second, after the last historic transition
+         * @return the offset, null if outside the table
+         */
+        ZoneOffset getOffset(long epochSec) {
+            if (epochSec >= end) {
+                return null;
+            }
+            // find the last start that is not after the epoch-second
+            long[] array = starts;
+            int low = 0;
+            int high = array.length - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (array[mid] <= epochSec) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return offsets[low];
+        }
+
+        /**
+         * Gets the transitions of the last rules in the year, creating them if necessary.
+         * <p>
+         * The array for each year is published through an atomic array, so its
+         * contents are visible to all threads. If two threads race to create the
+         * same year, the first to store its array wins and both return it.
+         *
+         * @param year  the year
+         * @return the transitions, null if outside the table
+         */
+        ZoneOffsetTransition[] getTransitions(int year) {
+            int index = year - startYear;
+            if (index < 0 || index >= transitions.length()) {
+                return null;
+            }
+            ZoneOffsetTransition[] transArray = transitions.get(index);
+            if (transArray == null) {
+                ZoneOffsetTransitionRule[] ruleArray = lastRules;
+                transArray = new ZoneOffsetTransition[ruleArray.length];
+                for (int i = 0; i < ruleArray.length; i++) {
+                    transArray[i] = ruleArray[i].createTransition(year);
+                }
+                if (transitions.compareAndSet(index, null, transArray) == false) {
+                    transArray = transitions.get(index);
+                }
+            }
+            return transArray;
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean isValidDateTime(OffsetDateTime dateTime) {
@@ -96,6 +96,10 @@ public final class ZoneRulesGroup {
      */
     private static final ConcurrentMap<String, ZoneRulesGroup> GROUPS =
             new ConcurrentHashMap<String, ZoneRulesGroup>(16, 0.75f, 2);
+    /**
+     * The number of times a provider has been registered.
+     */
+    private static volatile int generation;
 
     static {
         ResourceZoneRulesDataProvider.load();
@@ -219,9 +223,22 @@ public final class ZoneRulesGroup {
             GROUPS.put(provider.getGroupID(), group);
         }
         group.registerProvider0(provider);
+        generation++;  // synchronized
         return group;
     }
 
+    /**
+     * Gets the generation of the registered providers.
+     * <p>
+     * The generation changes each time a provider is registered.
+     * Rules obtained from a group may be cached until the generation changes.
+     *
+     * @return the generation, changing whenever a provider is registered
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
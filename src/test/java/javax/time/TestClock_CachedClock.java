@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import javax.time.format.DateTimeFormatters;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test CachedClock.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestClock_CachedClock {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
+    private static final ZoneOffset OFFSET = ZoneOffset.ofHours(2);
+    private static final OffsetDateTime DATE_TIME = OffsetDateTime.of(2008, 6, 30, 11, 30, 10, 500, OFFSET);
+    private static final OffsetDateTime DATE_TIME_LATER = OffsetDateTime.of(2008, 6, 30, 11, 30, 11, 0, OFFSET);
+
+    private MockTimeSource timeSource;
+    private CachedClock test;
+
+    @BeforeMethod
+    public void setUp() {
+        timeSource = new MockTimeSource(DATE_TIME.toInstant());
+        test = CachedClock.start(Clock.clock(timeSource, ZONE), Duration.ofHours(1),
+                DateTimeFormatters.isoLocalDateTime());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        test.stop();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_get() {
+        assertEquals(test.getClock(), Clock.clock(timeSource, ZONE));
+        assertEquals(test.getGranularity(), Duration.ofHours(1));
+        assertSame(test.getSource(), timeSource);
+        assertEquals(test.getZone(), ZONE);
+    }
+
+    public void test_values() {
+        assertEquals(test.instant(), DATE_TIME.toInstant());
+        assertEquals(test.today(), DATE_TIME.toLocalDate());
+        assertEquals(test.yesterday(), DATE_TIME.toLocalDate().minusDays(1));
+        assertEquals(test.time(), DATE_TIME.toLocalTime());
+        assertEquals(test.timeToSecond(), DATE_TIME.toLocalTime().withNanoOfSecond(0));
+        assertEquals(test.dateTime(), DATE_TIME.toLocalDateTime());
+        assertEquals(test.dateTimeToSecond(), DATE_TIME.toLocalDateTime().withNanoOfSecond(0));
+        assertEquals(test.offsetDate(), DATE_TIME.toOffsetDate());
+        assertEquals(test.offsetDateTime(), DATE_TIME);
+        assertEquals(test.zonedDateTime(), ZonedDateTime.of(DATE_TIME, ZONE));
+        assertEquals(test.formatted(), "2008-06-30T11:30:10.0000005");
+    }
+
+    public void test_values_cachedUntilTick() {
+        LocalDateTime dateTime = test.dateTime();
+        timeSource.instant = DATE_TIME_LATER.toInstant();
+        assertSame(test.dateTime(), dateTime);
+        assertSame(test.dateTimeToSecond(), test.dateTimeToSecond());
+        assertSame(test.zonedDateTime(), test.zonedDateTime());
+        assertSame(test.formatted(), test.formatted());
+        test.tick();
+        assertEquals(test.instant(), DATE_TIME_LATER.toInstant());
+        assertEquals(test.dateTime(), DATE_TIME_LATER.toLocalDateTime());
+        assertEquals(test.formatted(), "2008-06-30T11:30:11");
+    }
+
+    public void test_tick_failure_queriesUnderlyingClock() {
+        timeSource.instant = null;
+        test.tick();
+        try {
+            test.instant();
+            fail();
+        } catch (NullPointerException ex) {
+            // expected, underlying error is reported
+        }
+        timeSource.instant = DATE_TIME_LATER.toInstant();
+        test.tick();
+        assertEquals(test.dateTime(), DATE_TIME_LATER.toLocalDateTime());
+    }
+
+    public void test_stop() {
+        test.stop();
+        timeSource.instant = DATE_TIME_LATER.toInstant();
+        assertEquals(test.instant(), DATE_TIME_LATER.toInstant());
+        assertEquals(test.dateTime(), DATE_TIME_LATER.toLocalDateTime());
+        assertEquals(test.formatted(), "2008-06-30T11:30:11");
+        test.tick();
+        timeSource.instant = DATE_TIME.toInstant();
+        assertEquals(test.instant(), DATE_TIME.toInstant());
+    }
+
+    public void test_ticker() throws Exception {
+        CachedClock clock = CachedClock.start(Clock.systemDefaultZone(), Duration.ofMillis(1));
+        try {
+            Instant start = clock.instant();
+            for (int i = 0; i < 1000; i++) {
+                Thread.sleep(5);
+                if (clock.instant().isAfter(start)) {
+                    return;  // success
+                }
+            }
+            fail();
+        } finally {
+            clock.stop();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions=UnsupportedOperationException.class)
+    public void test_formatted_noFormatter() {
+        CachedClock clock = CachedClock.start(Clock.clock(timeSource, ZONE), Duration.ofHours(1));
+        try {
+            clock.formatted();
+        } finally {
+            clock.stop();
+        }
+    }
+
+    @Test(expectedExceptions=UnsupportedOperationException.class)
+    public void test_withZone() {
+        test.withZone(ZoneId.of("UTC"));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_start_zeroGranularity() {
+        CachedClock.start(Clock.clock(timeSource, ZONE), Duration.ZERO);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_start_nullClock() {
+        CachedClock.start(null, Duration.ofMillis(1));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_start_nullGranularity() {
+        CachedClock.start(Clock.clock(timeSource, ZONE), null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_toString() {
+        assertTrue(test.toString().startsWith("CachedClock["));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Time-source that returns a settable instant.
+     */
+    static class MockTimeSource extends TimeSource {
+        volatile Instant instant;
+        MockTimeSource(Instant instant) {
+            this.instant = instant;
+        }
+        @Override
+        public Instant instant() {
+            if (instant == null) {
+                throw new NullPointerException("No instant");
+            }
+            return instant;
+        }
+    }
+
+}
@@ -111,6 +111,74 @@ public class TestClock_TimeSourceClock {
         assertSame(test, changed);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_nowMethods_matchZoneRules() {
+        Clock test = Clock.clock(TIME_SOURCE, ZONE);
+        Instant instant = TIME_SOURCE.instant();
+        OffsetDateTime expected = OffsetDateTime.ofInstant(instant, ZONE.getRules().getOffset(instant));
+        assertEquals(test.offsetDateTime(), expected);
+        assertEquals(test.offsetDateTime(), DATE_TIME);
+        assertEquals(test.offsetDate(), expected.toOffsetDate());
+        assertEquals(test.offsetTime(), expected.toOffsetTime());
+        assertEquals(test.dateTime(), expected.toLocalDateTime());
+        assertEquals(test.today(), expected.toLocalDate());
+        assertEquals(test.time(), expected.toLocalTime());
+        assertEquals(test.zonedDateTime(), ZonedDateTime.ofInstant(instant, ZONE));
+    }
+
+    public void test_nowMethods_fixedOffsetZone() {
+        ZoneId zone = ZoneId.of(ZoneOffset.ofHours(-5));
+        Clock test = Clock.clock(TIME_SOURCE, zone);
+        assertEquals(test.offsetDateTime(), DATE_TIME.withOffsetSameInstant(ZoneOffset.ofHours(-5)));
+        assertEquals(test.zonedDateTime(), ZonedDateTime.ofInstant(DATE_TIME, zone));
+        assertEquals(test.time(), LocalTime.of(4, 30, 10, 500));
+    }
+
+    public void test_nowMethods_acrossTransitions() {
+        // Paris moves to +02:00 at 2008-03-30T01:00Z and back to +01:00 at 2008-10-26T01:00Z
+        MockTimeSource source = new MockTimeSource(OffsetDateTime.of(2008, 3, 30, 0, 59, 59, ZoneOffset.UTC).toInstant());
+        Clock test = Clock.clock(source, ZONE);
+        assertEquals(test.offsetDateTime(), OffsetDateTime.of(2008, 3, 30, 1, 59, 59, ZoneOffset.ofHours(1)));
+        source.instant = source.instant.plusSeconds(1);
+        assertEquals(test.offsetDateTime(), OffsetDateTime.of(2008, 3, 30, 3, 0, 0, ZoneOffset.ofHours(2)));
+        assertEquals(test.dateTime(), LocalDateTime.of(2008, 3, 30, 3, 0, 0));
+        source.instant = source.instant.minusSeconds(1);
+        assertEquals(test.offsetDateTime(), OffsetDateTime.of(2008, 3, 30, 1, 59, 59, ZoneOffset.ofHours(1)));
+        
+        source.instant = OffsetDateTime.of(2008, 10, 26, 0, 59, 59, ZoneOffset.UTC).toInstant();
+        assertEquals(test.zonedDateTime(), ZonedDateTime.ofInstant(source.instant, ZONE));
+        assertEquals(test.zonedDateTime().getOffset(), ZoneOffset.ofHours(2));
+        source.instant = source.instant.plusSeconds(1);
+        assertEquals(test.zonedDateTime(), ZonedDateTime.ofInstant(source.instant, ZONE));
+        assertEquals(test.zonedDateTime().getOffset(), ZoneOffset.ofHours(1));
+        assertEquals(test.time(), LocalTime.of(2, 0, 0));
+    }
+
+    public void test_nowMethods_exactlyAtTransition() {
+        Instant transition = OffsetDateTime.of(2008, 3, 30, 1, 0, 0, ZoneOffset.UTC).toInstant();
+        MockTimeSource source = new MockTimeSource(transition);
+        Clock test = Clock.clock(source, ZONE);
+        assertEquals(test.offsetDateTime().getOffset(), ZoneOffset.ofHours(2));
+        source.instant = transition.minusNanos(1);
+        assertEquals(test.offsetDateTime().getOffset(), ZoneOffset.ofHours(1));
+        source.instant = transition;
+        assertEquals(test.offsetDateTime().getOffset(), ZoneOffset.ofHours(2));
+    }
+
+    public void test_nowMethods_afterDeserialization() throws IOException, ClassNotFoundException {
+        Clock test = Clock.clock(TIME_SOURCE, ZONE);
+        test.offsetDateTime();
+        
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        Clock result = (Clock) ois.readObject();
+        assertEquals(result.offsetDateTime(), DATE_TIME);
+    }
+
     //-----------------------------------------------------------------------
     public void test_equals() {
         Clock test = Clock.clock(TIME_SOURCE, ZONE);
@@ -144,4 +212,16 @@ public class TestClock_TimeSourceClock {
         assertEquals(test.toString(), "TimeSourceClock[FixedTimeSource[2008-06-30T09:30:10.000000500Z], Europe/Paris]");
     }
 
+    //-----------------------------------------------------------------------
+    static class MockTimeSource extends TimeSource {
+        volatile Instant instant;
+        MockTimeSource(Instant instant) {
+            this.instant = instant;
+        }
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
 }
@@ -34,17 +34,23 @@ package javax.time;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import javax.time.format.CalendricalParseException;
+import javax.time.format.CalendricalPrintException;
+import javax.time.format.MockIOExceptionAppendable;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -410,6 +416,13 @@ public class TestInstant {
             {"1970-01-01T01:00:00.000000000Z", 3600, 0},
             {"1970-01-01T01:01:01.000000001Z", 3661, 1},
             {"1970-01-02T01:01:01.100000000Z", 90061, 100000000},
+            {"1969-12-31T23:59:59.999999999Z", -1, 999999999},
+            {"2000-02-29T12:00:00.5Z", 951825600, 500000000},
+            {"2012-03-01T00:00:00.123456Z", 1330560000, 123456000},
+            {"0000-01-01T00:00:00Z", -62167219200L, 0},
+            {"9999-12-31T23:59:59Z", 253402300799L, 0},
+            {"+10000-01-01T00:00:00Z", 253402300800L, 0},
+            {"-0001-12-31T23:59:59Z", -62167219201L, 0},
         };
     }
 
@@ -436,9 +449,39 @@ public class TestInstant {
             {"1970-01-01T00:00:00"},
             {"1970-01-01T00:00:0Z"},
             {"1970-01-01T00:00:00.0000000000Z"},
+            {"1970-01-01T00:00:00,5Z"},
+            {"1970-01-01 00:00:00Z"},
+            {"1970-01-0AT00:00:00Z"},
         };
     }
 
+    @DataProvider(name="ParseInvalidValues")
+    Object[][] provider_factory_parseInvalidValues() {
+        return new Object[][] {
+            {"1970-13-01T00:00:00Z"},
+            {"1970-00-01T00:00:00Z"},
+            {"1970-02-29T00:00:00Z"},
+            {"1970-01-32T00:00:00Z"},
+            {"1970-01-01T24:00:00Z"},
+            {"1970-01-01T00:60:00Z"},
+            {"1970-01-01T00:00:60Z"},
+        };
+    }
+
+    @Test(dataProvider="ParseInvalidValues", expectedExceptions=CalendricalException.class)
+    public void factory_parseInvalidValues(String text) {
+        Instant.parse(text);
+    }
+
+    @Test
+    public void factory_parse_matchesToString() {
+        Random random = new Random(123456789L);
+        for (int i = 0; i < 1000; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextLong() % 253402300800L, random.nextInt(1000000000));
+            assertEquals(Instant.parse(instant.toString()), instant);
+        }
+    }
+
     @Test(dataProvider="ParseFailures", expectedExceptions=CalendricalParseException.class)
     public void factory_parseFailures(String text) {
         Instant.parse(text);
@@ -1724,4 +1767,71 @@ public class TestInstant {
         assertEquals(t.toString(), "1970-01-01T00:00:00.000000567Z");
     }
 
+    @DataProvider(name="sampleToString")
+    Object[][] provider_sampleToString() {
+        return new Object[][] {
+            {0, 0, "1970-01-01T00:00Z"},
+            {-1, 999999999, "1969-12-31T23:59:59.999999999Z"},
+            {1330560001, 120000000, "2012-03-01T00:00:01.120Z"},
+            {951825600, 500, "2000-02-29T12:00:00.000000500Z"},
+            {-62167219200L, 0, "0000-01-01T00:00Z"},
+            {-62167219201L, 0, "-0001-12-31T23:59:59Z"},
+            {253402300800L, 1000, "+10000-01-01T00:00:00.000001Z"},
+        };
+    }
+
+    @Test(dataProvider="sampleToString", groups={"tck"})
+    public void test_toString(long epochSecond, int nano, String expected) {
+        Instant t = Instant.ofEpochSecond(epochSecond, nano);
+        assertEquals(t.toString(), expected);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_toString_matchesLocalDateTime() {
+        Random random = new Random(123456789L);
+        for (int i = 0; i < 1000; i++) {
+            Instant t = Instant.ofEpochSecond(random.nextLong() % 1000000000000L, random.nextInt(1000) * 1000000);
+            assertEquals(t.toString(), OffsetDateTime.ofInstantUTC(t).toLocalDateTime().toString() + 'Z');
+        }
+    }
+
+    @Test(expectedExceptions=CalendricalException.class, groups={"tck"})
+    public void test_toString_tooBig() {
+        Instant.ofEpochSecond(Long.MAX_VALUE).toString();
+    }
+
+    //-----------------------------------------------------------------------
+    // printTo(Appendable)
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="sampleToString", groups={"tck"})
+    public void test_printTo_StringBuilder(long epochSecond, int nano, String expected) {
+        Instant t = Instant.ofEpochSecond(epochSecond, nano);
+        StringBuilder buf = new StringBuilder("EXISTING:");
+        t.printTo(buf);
+        assertEquals(buf.toString(), "EXISTING:" + expected);
+    }
+
+    @Test(dataProvider="sampleToString", groups={"tck"})
+    public void test_printTo_Appendable(long epochSecond, int nano, String expected) {
+        Instant t = Instant.ofEpochSecond(epochSecond, nano);
+        StringWriter buf = new StringWriter();
+        t.printTo(buf);
+        assertEquals(buf.toString(), expected);
+    }
+
+    @Test(groups={"tck"})
+    public void test_printTo_IOException() throws Exception {
+        try {
+            Instant.EPOCH.printTo(new MockIOExceptionAppendable());
+            fail();
+        } catch (CalendricalPrintException ex) {
+            assertEquals(ex.getCause() instanceof IOException, true);
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_printTo_null() {
+        Instant.EPOCH.printTo(null);
+    }
+
 }
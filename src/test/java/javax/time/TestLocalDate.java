@@ -518,6 +518,103 @@ public class TestLocalDate extends AbstractTest {
         LocalDate.ofModifiedJulianDay(MIN_VALID_MJDAYS - 1);
     }
 
+    //-----------------------------------------------------------------------
+    // epochDayOf()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void factory_epochDayOf() {
+        long date_0000_01_01 = -678941 - 40587;
+        assertEquals(LocalDate.epochDayOf(1970, 1, 1), 0);
+        assertEquals(LocalDate.epochDayOf(0, 1, 1), date_0000_01_01);
+        assertEquals(LocalDate.epochDayOf(-1, 12, 31), date_0000_01_01 - 1);
+        assertEquals(LocalDate.epochDayOf(Year.MAX_YEAR, 12, 31), MAX_VALID_EPOCHDAYS);
+        assertEquals(LocalDate.epochDayOf(Year.MIN_YEAR, 1, 1), MIN_VALID_EPOCHDAYS);
+        
+        LocalDate test = LocalDate.of(0, 1, 1);
+        for (long i = date_0000_01_01; i < 700000; i++) {
+            assertEquals(LocalDate.epochDayOf(test.getYear(), test.getMonthOfYear().getValue(), test.getDayOfMonth()), i);
+            test = next(test);
+        }
+        test = LocalDate.of(0, 1, 1);
+        for (long i = date_0000_01_01; i > -2000000; i--) {
+            assertEquals(LocalDate.epochDayOf(test.getYear(), test.getMonthOfYear().getValue(), test.getDayOfMonth()), i);
+            test = previous(test);
+        }
+    }
+
+    @Test(expectedExceptions=IllegalCalendarFieldValueException.class, groups={"tck"})
+    public void factory_epochDayOf_illegalMonth() {
+        LocalDate.epochDayOf(2007, 13, 1);
+    }
+
+    @Test(expectedExceptions=IllegalCalendarFieldValueException.class, groups={"tck"})
+    public void factory_epochDayOf_illegalDay() {
+        LocalDate.epochDayOf(2007, 1, 32);
+    }
+
+    @Test(expectedExceptions=InvalidCalendarFieldException.class, groups={"tck"})
+    public void factory_epochDayOf_nonLeapYear() {
+        LocalDate.epochDayOf(2007, 2, 29);
+    }
+
+    //-----------------------------------------------------------------------
+    // yearOfEpochDay()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void factory_yearOfEpochDay() {
+        assertEquals(LocalDate.yearOfEpochDay(0), 1970);
+        assertEquals(LocalDate.yearOfEpochDay(-1), 1969);
+        assertEquals(LocalDate.yearOfEpochDay(MAX_VALID_EPOCHDAYS), Year.MAX_YEAR);
+        assertEquals(LocalDate.yearOfEpochDay(MIN_VALID_EPOCHDAYS), Year.MIN_YEAR);
+        for (long i = -800000; i < 800000; i += 13) {
+            assertEquals(LocalDate.yearOfEpochDay(i), LocalDate.ofEpochDay(i).getYear());
+        }
+    }
+
+    @Test(expectedExceptions=IllegalCalendarFieldValueException.class, groups={"tck"})
+    public void factory_yearOfEpochDay_aboveMax() {
+        LocalDate.yearOfEpochDay(MAX_VALID_EPOCHDAYS + 1);
+    }
+
+    //-----------------------------------------------------------------------
+    // packedDateOfEpochDay() / epochDayOfPackedDate()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void factory_packedDate() {
+        assertEquals(LocalDate.packedDateOfEpochDay(0), 19700101);
+        assertEquals(LocalDate.packedDateOfEpochDay(LocalDate.epochDayOf(2008, 12, 31)), 20081231);
+        assertEquals(LocalDate.packedDateOfEpochDay(LocalDate.epochDayOf(0, 1, 1)), 101);
+        assertEquals(LocalDate.packedDateOfEpochDay(LocalDate.epochDayOf(9999, 12, 31)), 99991231);
+        assertEquals(LocalDate.epochDayOfPackedDate(19700101), 0);
+        assertEquals(LocalDate.epochDayOfPackedDate(20000229), LocalDate.of(2000, 2, 29).toEpochDay());
+        for (long i = -719528; i < 2932897; i += 7) {
+            int packed = LocalDate.packedDateOfEpochDay(i);
+            LocalDate date = LocalDate.ofEpochDay(i);
+            assertEquals(packed, date.getYear() * 10000 + date.getMonthOfYear().getValue() * 100 + date.getDayOfMonth());
+            assertEquals(LocalDate.epochDayOfPackedDate(packed), i);
+        }
+    }
+
+    @Test(expectedExceptions=CalendricalException.class, groups={"tck"})
+    public void factory_packedDateOfEpochDay_yearAbove9999() {
+        LocalDate.packedDateOfEpochDay(LocalDate.epochDayOf(10000, 1, 1));
+    }
+
+    @Test(expectedExceptions=CalendricalException.class, groups={"tck"})
+    public void factory_packedDateOfEpochDay_negativeYear() {
+        LocalDate.packedDateOfEpochDay(LocalDate.epochDayOf(-1, 12, 31));
+    }
+
+    @Test(expectedExceptions=CalendricalException.class, groups={"tck"})
+    public void factory_epochDayOfPackedDate_negative() {
+        LocalDate.epochDayOfPackedDate(-20081231);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class, groups={"tck"})
+    public void factory_epochDayOfPackedDate_invalidMonth() {
+        LocalDate.epochDayOfPackedDate(20081301);
+    }
+
     //-----------------------------------------------------------------------
     // from()
     //-----------------------------------------------------------------------
@@ -50,6 +50,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -57,6 +58,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Iterator;
@@ -81,7 +83,9 @@ import javax.time.calendrical.TimeAdjuster;
 import javax.time.calendrical.ZoneResolver;
 import javax.time.calendrical.ZoneResolvers;
 import javax.time.format.CalendricalParseException;
+import javax.time.format.CalendricalPrintException;
 import javax.time.format.DateTimeFormatters;
+import javax.time.format.MockIOExceptionAppendable;
 import javax.time.i18n.CopticChronology;
 
 import org.testng.annotations.BeforeMethod;
@@ -4041,6 +4045,40 @@ public class TestLocalDateTime extends AbstractTest {
         assertEquals(str, expected);
     }
 
+    //-----------------------------------------------------------------------
+    // printTo(Appendable)
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="sampleToString", groups={"tck"})
+    public void test_printTo_StringBuilder(int y, int m, int d, int h, int mi, int s, int n, String expected) {
+        LocalDateTime t = LocalDateTime.of(y, m, d, h, mi, s, n);
+        StringBuilder buf = new StringBuilder("EXISTING:");
+        t.printTo(buf);
+        assertEquals(buf.toString(), "EXISTING:" + expected);
+    }
+
+    @Test(dataProvider="sampleToString", groups={"tck"})
+    public void test_printTo_Appendable(int y, int m, int d, int h, int mi, int s, int n, String expected) {
+        LocalDateTime t = LocalDateTime.of(y, m, d, h, mi, s, n);
+        StringWriter buf = new StringWriter();
+        t.printTo(buf);
+        assertEquals(buf.toString(), expected);
+    }
+
+    @Test(groups={"tck"})
+    public void test_printTo_IOException() throws Exception {
+        try {
+            LocalDateTime.of(2010, 12, 3, 11, 30, 45).printTo(new MockIOExceptionAppendable());
+            fail();
+        } catch (CalendricalPrintException ex) {
+            assertEquals(ex.getCause() instanceof IOException, true);
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_printTo_null() {
+        LocalDateTime.of(2010, 12, 3, 11, 30, 45).printTo(null);
+    }
+
     //-----------------------------------------------------------------------
     // toString(DateTimeFormatter)
     //-----------------------------------------------------------------------
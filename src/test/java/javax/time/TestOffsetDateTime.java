@@ -49,6 +49,7 @@ import static javax.time.calendrical.ISODateTimeRule.YEAR;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -56,6 +57,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -78,7 +80,9 @@ import javax.time.calendrical.TimeAdjuster;
 import javax.time.calendrical.ZoneResolver;
 import javax.time.calendrical.ZoneResolvers;
 import javax.time.format.CalendricalParseException;
+import javax.time.format.CalendricalPrintException;
 import javax.time.format.DateTimeFormatters;
+import javax.time.format.MockIOExceptionAppendable;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
@@ -1823,6 +1827,40 @@ public class TestOffsetDateTime {
         assertEquals(str, expected);
     }
 
+    //-----------------------------------------------------------------------
+    // printTo(Appendable)
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="sampleToString", groups={"tck"})
+    public void test_printTo_StringBuilder(int y, int o, int d, int h, int m, int s, int n, String offsetId, String expected) {
+        OffsetDateTime t = OffsetDateTime.of(y, o, d, h, m, s, n, ZoneOffset.of(offsetId));
+        StringBuilder buf = new StringBuilder("EXISTING:");
+        t.printTo(buf);
+        assertEquals(buf.toString(), "EXISTING:" + expected);
+    }
+
+    @Test(dataProvider="sampleToString", groups={"tck"})
+    public void test_printTo_Appendable(int y, int o, int d, int h, int m, int s, int n, String offsetId, String expected) {
+        OffsetDateTime t = OffsetDateTime.of(y, o, d, h, m, s, n, ZoneOffset.of(offsetId));
+        StringWriter buf = new StringWriter();
+        t.printTo(buf);
+        assertEquals(buf.toString(), expected);
+    }
+
+    @Test(groups={"tck"})
+    public void test_printTo_IOException() throws Exception {
+        try {
+            OffsetDateTime.of(2010, 12, 3, 11, 30, 45, ZoneOffset.UTC).printTo(new MockIOExceptionAppendable());
+            fail();
+        } catch (CalendricalPrintException ex) {
+            assertEquals(ex.getCause() instanceof IOException, true);
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_printTo_null() {
+        OffsetDateTime.of(2010, 12, 3, 11, 30, 45, ZoneOffset.UTC).printTo(null);
+    }
+
     //-----------------------------------------------------------------------
     // toString(DateTimeFormatter)
     //-----------------------------------------------------------------------
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test MonotonicTimeSource.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestTimeSource_Monotonic {
+
+    private static final Instant INSTANT = Instant.ofEpochSecond(1234567890L, 500);
+
+    //-----------------------------------------------------------------------
+    public void test_isSerializable() throws IOException, ClassNotFoundException {
+        TimeSource test = TimeSource.monotonic(TimeSource.fixed(INSTANT));
+        test.instant();
+        assertTrue(test instanceof Serializable);
+        
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        TimeSource deserialized = (TimeSource) ois.readObject();
+        assertEquals(deserialized.toString(), test.toString());
+        assertEquals(deserialized.instant(), INSTANT);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_instant_fixedSource_strictlyIncreasing() {
+        TimeSource test = TimeSource.monotonic(TimeSource.fixed(INSTANT));
+        assertEquals(test.instant(), INSTANT);
+        assertEquals(test.instant(), INSTANT.plusNanos(1));
+        assertEquals(test.instant(), INSTANT.plusNanos(2));
+    }
+
+    public void test_instant_sourceGoesBackwards() {
+        final Instant[] instants = {INSTANT, INSTANT.plusSeconds(1), INSTANT, INSTANT.plusSeconds(2)};
+        TimeSource test = TimeSource.monotonic(new TimeSource() {
+            private int index;
+            @Override
+            public Instant instant() {
+                return instants[index++];
+            }
+        });
+        assertEquals(test.instant(), INSTANT);
+        assertEquals(test.instant(), INSTANT.plusSeconds(1));
+        assertEquals(test.instant(), INSTANT.plusSeconds(1).plusNanos(1));
+        assertEquals(test.instant(), INSTANT.plusSeconds(2));
+    }
+
+    public void test_instant_nanoSystem() {
+        TimeSource test = TimeSource.monotonic(TimeSource.nanoSystem());
+        Instant previous = test.instant();
+        assertTrue(Math.abs(previous.toEpochMilli() - System.currentTimeMillis()) < 1000);
+        for (int i = 0; i < 10000; i++) {
+            Instant instant = test.instant();
+            assertTrue(instant.isAfter(previous));
+            previous = instant;
+        }
+    }
+
+    public void test_instant_multipleThreads_unique() throws Exception {
+        final TimeSource test = TimeSource.monotonic(TimeSource.system());
+        final Instant[][] results = new Instant[4][10000];
+        Thread[] threads = new Thread[results.length];
+        for (int t = 0; t < threads.length; t++) {
+            final Instant[] result = results[t];
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < result.length; i++) {
+                        result[i] = test.instant();
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        Set<Instant> all = new HashSet<Instant>();
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+            for (int i = 0; i < results[t].length; i++) {
+                assertTrue(all.add(results[t][i]));
+                if (i > 0) {
+                    assertTrue(results[t][i].isAfter(results[t][i - 1]));
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_monotonic_null() {
+        TimeSource.monotonic(null);
+    }
+
+    public void test_toString() {
+        TimeSource test = TimeSource.monotonic(TimeSource.system());
+        assertEquals(test.toString(), "MonotonicTimeSource[SystemTimeSource]");
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.time.NanoSystemTimeSource.Calibration;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test NanoSystemTimeSource.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestTimeSource_NanoSystem {
+
+    private static final long MILLI = 1000000L;
+    private static final long SECOND = 1000000000L;
+
+    //-----------------------------------------------------------------------
+    public void test_nanoSystem_isSerializable() throws IOException, ClassNotFoundException {
+        TimeSource nanoSystem = TimeSource.nanoSystem();
+        assertTrue(nanoSystem instanceof Serializable);
+        
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(nanoSystem);
+        oos.close();
+        
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        assertSame(ois.readObject(), nanoSystem);
+    }
+
+    public void test_nanoSystem_singleton() {
+        assertSame(TimeSource.nanoSystem(), TimeSource.nanoSystem());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_nanoSystem_instant() {
+        TimeSource nanoSystem = TimeSource.nanoSystem();
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            Instant instant = nanoSystem.instant();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant.toEpochMilli()) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_nanoSystem_millis() {
+        TimeSource nanoSystem = TimeSource.nanoSystem();
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long instant = nanoSystem.millis();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_nanoSystem_instant_neverBackwards() {
+        TimeSource nanoSystem = TimeSource.nanoSystem();
+        Instant previous = nanoSystem.instant();
+        for (int i = 0; i < 100000; i++) {
+            Instant instant = nanoSystem.instant();
+            assertTrue(instant.compareTo(previous) >= 0);
+            previous = instant;
+        }
+    }
+
+    public void test_nanoSystem_multipleThreads_neverBackwards() throws Exception {
+        final NanoSystemTimeSource test = NanoSystemTimeSource.INSTANCE;
+        final AtomicLong latest = new AtomicLong(Long.MIN_VALUE);
+        final long[] failures = new long[4];
+        // run for longer than the resync interval so that threads race to resync
+        final long end = System.nanoTime() + NanoSystemTimeSource.RESYNC_NANOS * 3 / 2;
+        Thread[] threads = new Thread[failures.length];
+        for (int t = 0; t < threads.length; t++) {
+            final int index = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    while (System.nanoTime() - end < 0) {
+                        long floor = latest.get();  // returned before this call started
+                        long nanos = test.epochNanos();
+                        if (nanos < floor) {
+                            failures[index]++;
+                        }
+                        long current = latest.get();
+                        while (nanos > current && latest.compareAndSet(current, nanos) == false) {
+                            current = latest.get();
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+            assertEquals(failures[t], 0);
+        }
+    }
+
+    public void test_nanoSystem_instant_subMillisecondResolution() {
+        TimeSource nanoSystem = TimeSource.nanoSystem();
+        for (int i = 0; i < 10000; i++) {
+            if (nanoSystem.instant().getNanoOfSecond() % MILLI != 0) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_nanoSystem_calibrationError() {
+        Duration error = TimeSource.nanoSystem().getCalibrationError();
+        assertTrue(error.isNegative() == false);
+        assertTrue(error.compareTo(Duration.ofSeconds(1)) < 0);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_calibration_epochNanos() {
+        Calibration cal = new Calibration(5, 1000 * MILLI, 0, 100);
+        assertEquals(cal.epochNanos(5), 1000 * MILLI);
+        assertEquals(cal.epochNanos(5 + SECOND), 1000 * MILLI + SECOND);
+    }
+
+    public void test_calibration_resync_consistent() {
+        Calibration cal = new Calibration(0, 1000 * MILLI, 0, 100);
+        Calibration test = cal.resync(500 * MILLI, 1500, 500 * MILLI + 40);
+        assertEquals(test.nanoTime, 500 * MILLI + 40);
+        assertEquals(test.epochNanos, 1500 * MILLI + 40);
+        assertEquals(test.correction, 0);
+        assertEquals(test.error, 100);
+    }
+
+    public void test_calibration_resync_behind() {
+        Calibration cal = new Calibration(0, 1000 * MILLI, 0, 100);
+        Calibration test = cal.resync(500 * MILLI, 1502, 500 * MILLI + 40);
+        assertEquals(test.nanoTime, 500 * MILLI + 40);
+        assertEquals(test.epochNanos, 1502 * MILLI);
+        assertEquals(test.correction, 0);
+        assertEquals(test.error, MILLI + 40);
+    }
+
+    public void test_calibration_resync_ahead() {
+        Calibration cal = new Calibration(0, 1000 * MILLI, 0, 100);
+        Calibration test = cal.resync(500 * MILLI, 1497, 500 * MILLI + 40);
+        assertEquals(test.nanoTime, 500 * MILLI + 40);
+        assertEquals(test.epochNanos, 1500 * MILLI + 40);
+        assertEquals(test.correction, 2 * MILLI);
+        assertEquals(test.error, 3 * MILLI + 40);
+        // runs slow by one part in a thousand until corrected
+        assertEquals(test.epochNanos(test.nanoTime + SECOND), test.epochNanos + SECOND - MILLI);
+        assertEquals(test.epochNanos(test.nanoTime + 3 * SECOND), test.epochNanos + 3 * SECOND - 2 * MILLI);
+    }
+
+    public void test_calibration_resync_aheadThenConsistent_neverBackwards() {
+        Calibration cal = new Calibration(0, 1000 * MILLI, 0, 100);
+        Calibration ahead = cal.resync(500 * MILLI, 1497, 500 * MILLI);
+        long time = 500 * MILLI + SECOND;
+        long before = ahead.epochNanos(time);
+        Calibration test = ahead.resync(time, 2499, time);
+        assertEquals(test.correction, 0);
+        assertEquals(test.epochNanos(time), before);
+        assertTrue(test.epochNanos(time + 1) > before);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_nanoSystem_toString() {
+        assertEquals(TimeSource.nanoSystem().toString(), "NanoSystemTimeSource");
+    }
+
+}
@@ -40,6 +40,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -48,9 +49,11 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalRule;
@@ -59,6 +62,10 @@ import javax.time.calendrical.MockRuleNoValue;
 import javax.time.format.TextStyle;
 import javax.time.zone.ZoneOffsetInfo;
 import javax.time.zone.ZoneOffsetTransition;
+import javax.time.zone.ZoneRules;
+import javax.time.zone.ZoneRulesDataProvider;
+import javax.time.zone.ZoneRulesGroup;
+import javax.time.zone.ZoneRulesVersion;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -584,6 +591,67 @@ public class TestZoneId {
         ZoneId.from((Calendrical) null);
     }
 
+    //-----------------------------------------------------------------------
+    // of(String) caching
+    //-----------------------------------------------------------------------
+    public void test_of_string_cached() {
+        ZoneId test = ZoneId.of("Europe/London");
+        assertSame(ZoneId.of("Europe/London"), test);
+        assertSame(ZoneId.of("Europe/London#" + LATEST_TZDB), ZoneId.of("Europe/London#" + LATEST_TZDB));
+        assertEquals(ZoneId.of("TZDB:Europe/London"), test);
+    }
+
+    public void test_of_string_invalidCached() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                ZoneId.of("Europe/Lodnon");
+                fail();
+            } catch (CalendricalException ex) {
+                assertEquals(ex.getMessage(), "Unknown time-zone region: TZDB:Europe/Lodnon");
+            }
+        }
+    }
+
+    public void test_of_string_invalidCachedCopied() {
+        CalendricalException first = null;
+        try {
+            ZoneId.of("Europe/Pairs");
+            fail();
+        } catch (CalendricalException ex) {
+            first = ex;
+        }
+        try {
+            ZoneId.of("Europe/Pairs");
+            fail();
+        } catch (CalendricalException ex) {
+            assertEquals(ex.getClass(), first.getClass());
+            assertEquals(ex.getMessage(), first.getMessage());
+            assertSame(ex.getCause(), first.getCause());
+            assertTrue(ex != first);
+        }
+    }
+
+    public void test_of_string_cachedAfterCacheFull() {
+        for (int i = 0; i < 2500; i++) {
+            ZoneId.of("UTC" + ZoneOffset.ofTotalSeconds(i + 1).getID());
+        }
+        ZoneId test = ZoneId.of("Asia/Tokyo");
+        assertSame(ZoneId.of("Asia/Tokyo"), test);
+    }
+
+    public void test_of_string_invalidUntilRegistered() {
+        try {
+            ZoneId.of("TESTLATE:Place");
+            fail();
+        } catch (CalendricalException ex) {
+            // expected
+        }
+        ZoneRulesGroup.registerProvider(new MockGenerationProvider("TESTLATE", "1", "+03:00"));
+        ZoneId test = ZoneId.of("TESTLATE:Place");
+        assertEquals(test.getRules().getOffset(Instant.EPOCH), ZoneOffset.ofHours(3));
+        assertSame(ZoneId.of("TESTLATE:Place"), test);
+    }
+
     //-----------------------------------------------------------------------
     // Europe/London
     //-----------------------------------------------------------------------
@@ -1301,6 +1369,62 @@ public class TestZoneId {
         base.withVersion(null);
     }
 
+    //-----------------------------------------------------------------------
+    // getRules()
+    //-----------------------------------------------------------------------
+    public void test_getRules_cached() {
+        ZoneId test = ZoneId.of("Europe/London");
+        ZoneRules rules = test.getRules();
+        assertSame(test.getRules(), rules);
+        assertEquals(rules, ZoneRulesGroup.getGroup("TZDB").getRules("Europe/London", LATEST_TZDB));
+    }
+
+    public void test_getRules_refreshedOnRegisterProvider() {
+        ZoneRulesGroup.registerProvider(new MockGenerationProvider("TESTGEN", "1", "+01:00"));
+        ZoneId test = ZoneId.of("TESTGEN:Place");
+        assertEquals(test.getRules().getOffset(Instant.EPOCH), ZoneOffset.ofHours(1));
+        int generation = ZoneRulesGroup.getGeneration();
+        
+        ZoneRulesGroup.registerProvider(new MockGenerationProvider("TESTGEN", "2", "+02:00"));
+        assertEquals(ZoneRulesGroup.getGeneration() == generation, false);
+        assertEquals(test.getRules().getOffset(Instant.EPOCH), ZoneOffset.ofHours(2));
+        assertEquals(ZoneId.of("TESTGEN:Place#1").getRules().getOffset(Instant.EPOCH), ZoneOffset.ofHours(1));
+    }
+
+    static class MockGenerationProvider implements ZoneRulesDataProvider {
+        private final String groupID;
+        private final String versionID;
+        private final ZoneOffset offset;
+        MockGenerationProvider(String groupID, String versionID, String offsetID) {
+            this.groupID = groupID;
+            this.versionID = versionID;
+            this.offset = ZoneOffset.of(offsetID);
+        }
+        public String getGroupID() {
+            return groupID;
+        }
+        public Set<ZoneRulesVersion> getVersions() {
+            ZoneRulesVersion version = new ZoneRulesVersion() {
+                public String getVersionID() {
+                    return versionID;
+                }
+                public boolean isRegionID(String regionID) {
+                    return regionID.equals("Place");
+                }
+                public Set<String> getRegionIDs() {
+                    return Collections.singleton("Place");
+                }
+                public ZoneRules getZoneRules(String regionID) {
+                    return ZoneId.of(offset).getRules();
+                }
+            };
+            return Collections.singleton(version);
+        }
+        public Set<String> getRegionIDs() {
+            return Collections.singleton("Place");
+        }
+    }
+
     //-----------------------------------------------------------------------
     // isValid()
     //-----------------------------------------------------------------------
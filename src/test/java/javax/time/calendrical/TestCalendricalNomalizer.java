@@ -512,6 +512,37 @@ public class TestCalendricalNomalizer {
         }
     }
 
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "deriveMatchesMerge")
+    Object[][] data_deriveMatchesMerge() {
+        Calendrical[] calendricals = {
+            DATE_2011_06_30, TIME_11_30, DATE_TIME_2011_06_30_11_30,
+            OFFSET_DATE_2011_06_30, OFFSET_TIME_11_30, OFFSET_DATE_TIME_2011_06_30_11_30,
+            ZonedDateTime.of(DATE_TIME_2011_06_30_11_30, ZoneId.of("Europe/Paris")),
+            OFFSET, ZoneId.of("Europe/Paris"),
+        };
+        CalendricalRule<?>[] rules = {
+            LocalDate.rule(), LocalTime.rule(), LocalDateTime.rule(),
+            OffsetDate.rule(), OffsetTime.rule(), OffsetDateTime.rule(),
+            ZoneOffset.rule(), ZoneId.rule(),
+            Year.rule(), YearMonth.rule(), MonthDay.rule(),
+            MonthOfYear.rule(), QuarterOfYear.rule(), DayOfWeek.rule(), AmPmOfDay.rule(),
+        };
+        Object[][] data = new Object[calendricals.length * rules.length][];
+        for (int i = 0; i < calendricals.length; i++) {
+            for (int j = 0; j < rules.length; j++) {
+                data[i * rules.length + j] = new Object[] {calendricals[i], rules[j]};
+            }
+        }
+        return data;
+    }
+
+    @Test(dataProvider = "deriveMatchesMerge")
+    public void test_derive_matchesMerge(Calendrical calendrical, CalendricalRule<?> ruleToDerive) {
+        Object expected = CalendricalEngine.merge(calendrical).derive(ruleToDerive);
+        assertEquals(calendrical.get(ruleToDerive), expected);
+    }
+
     //-----------------------------------------------------------------------
     @DataProvider(name="normalized")
     Object[][] data_normalized() {
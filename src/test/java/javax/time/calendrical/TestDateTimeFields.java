@@ -43,6 +43,8 @@ import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
 import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_QUARTER;
 import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
 import static javax.time.calendrical.ISODateTimeRule.NANO_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_MINUTE;
 import static javax.time.calendrical.ISODateTimeRule.NANO_OF_SECOND;
 import static javax.time.calendrical.ISODateTimeRule.QUARTER_OF_YEAR;
 import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_DAY;
@@ -64,6 +66,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -98,6 +101,8 @@ public class TestDateTimeFields {
             {DateTimeFields.EMPTY},
             {DateTimeFields.of(YEAR, 2008)},
             {DateTimeFields.of(YEAR, 2008, MONTH_OF_YEAR, 6)},
+            {DateTimeFields.of(NANO_OF_MINUTE, 2, NANO_OF_HOUR, 3)},
+            {DateTimeFields.of(YEAR, 2008, MockDecadeOfCenturyFieldRule.INSTANCE, 3)},
         };
     }
 
@@ -336,6 +341,22 @@ public class TestDateTimeFields {
         assertEquals(iterator.hasNext(), false);
     }
 
+    @Test(groups={"tck"})
+    public void test_iterator_mixedRules() {
+        DateTimeField decade = MockDecadeOfCenturyFieldRule.INSTANCE.field(3);
+        DateTimeFields test = dtf(MONTH_OF_YEAR, 6, YEAR, 2008).with(decade).with(DAY_OF_MONTH, 30);
+        List<DateTimeField> expected = new ArrayList<DateTimeField>(Arrays.asList(
+                MONTH_OF_YEAR.field(6), YEAR.field(2008), decade, DAY_OF_MONTH.field(30)));
+        Collections.sort(expected, Collections.reverseOrder());
+        List<DateTimeField> actual = new ArrayList<DateTimeField>();
+        for (DateTimeField field : test) {
+            actual.add(field);
+        }
+        assertEquals(actual, expected);
+        assertEquals(test.size(), 4);
+        assertEquals(test.toString(), expected.toString());
+    }
+
     @Test(expectedExceptions = UnsupportedOperationException.class, groups={"tck"})
     public void test_iterator_immutable() {
         DateTimeFields test = dtf(YEAR, 2008, MONTH_OF_YEAR, 6);
@@ -661,6 +682,25 @@ public class TestDateTimeFields {
         assertFields(base, YEAR, 2008, MONTH_OF_YEAR, 6);
     }
 
+    @Test(groups={"tck"})
+    public void test_with_without_mixedRules() {
+        DateTimeRule decade = MockDecadeOfCenturyFieldRule.INSTANCE;
+        DateTimeFields base = dtf(YEAR, 2008).with(decade, 3).with(MONTH_OF_YEAR, 6);
+        assertEquals(base.getValue(YEAR), 2008);
+        assertEquals(base.getValue(decade), 3);
+        assertEquals(base.getValue(MONTH_OF_YEAR), 6);
+        assertEquals(base.contains(decade), true);
+        assertEquals(base.contains(DAY_OF_MONTH), false);
+        assertEquals(base.getField(DAY_OF_MONTH), null);
+        DateTimeFields other = DateTimeFields.of(MONTH_OF_YEAR.field(6), decade.field(3), YEAR.field(2008));
+        assertEquals(base, other);
+        assertEquals(base.hashCode(), other.hashCode());
+        
+        DateTimeFields test = base.without(YEAR).without(decade);
+        assertFields(test, MONTH_OF_YEAR, 6);
+        assertSame(test.without(MONTH_OF_YEAR), DateTimeFields.EMPTY);
+    }
+
     @Test(groups={"implementation"})
     public void test_without_fieldNotPresent() {
         DateTimeFields base = dtf(YEAR, 2008, MONTH_OF_YEAR, 6);
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2009-2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import javax.time.calendrical.DateTimeRule;
+import javax.time.calendrical.ISOPeriodUnit;
+
+/**
+ * Mock rule that overrides the fraction conversions, reversing the fraction.
+ *
+ * @author Stephen Colebourne
+ */
+public final class MockReversedFractionFieldRule extends DateTimeRule implements Serializable {
+
+    /** Singleton instance. */
+    public static final DateTimeRule INSTANCE = new MockReversedFractionFieldRule();
+    /** Serialization version. */
+    private static final long serialVersionUID = 1L;
+
+    /** Constructor. */
+    private MockReversedFractionFieldRule() {
+        super("ReversedTenthOfSecond", ISOPeriodUnit.MILLIS, ISOPeriodUnit.SECONDS, 0, 9, null);
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    @Override
+    public BigDecimal convertToFraction(long value) {
+        return BigDecimal.valueOf(9 - checkValidValue(value), 1);
+    }
+
+    @Override
+    public long convertFromFraction(BigDecimal fraction) {
+        return checkValidValue(9 - fraction.movePointRight(1).longValue());
+    }
+
+}
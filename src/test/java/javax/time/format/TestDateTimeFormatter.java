@@ -33,21 +33,30 @@ package javax.time.format;
 
 import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
 import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
 import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.time.CalendricalException;
 import javax.time.LocalDate;
 import javax.time.LocalTime;
 import javax.time.OffsetDate;
+import javax.time.OffsetDateTime;
 import javax.time.ZoneOffset;
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalEngine;
@@ -233,6 +242,142 @@ public class TestDateTimeFormatter {
         }
     }
 
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_printAllTo_Iterable_StringBuilder() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        StringBuilder buf = new StringBuilder("EXISTING");
+        test.printAllTo(Arrays.asList(LocalDate.of(2008, 6, 30), LocalDate.of(2008, 7, 1)), ",", buf);
+        assertEquals(buf.toString(), "EXISTINGONE30,ONE1");
+    }
+
+    @Test(groups={"tck"})
+    public void test_printAllTo_Iterable_empty() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        StringBuilder buf = new StringBuilder();
+        test.printAllTo(new ArrayList<Calendrical>(), ",", buf);
+        assertEquals(buf.toString(), "");
+    }
+
+    @Test(groups={"tck"})
+    public void test_printAllTo_array_Writer() throws Exception {
+        DateTimeFormatter test = DateTimeFormatters.isoLocalDate();
+        Calendrical[] dates = new Calendrical[1000];
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = LocalDate.of(2008, 6, 30).plusDays(i);
+            expected.append(i == 0 ? "" : "\r\n").append(dates[i]);
+        }
+        StringWriter writer = new StringWriter();
+        test.printAllTo(dates, "\r\n", writer);
+        assertEquals(writer.toString(), expected.toString());
+    }
+
+    @Test(groups={"tck"})
+    public void test_printAllTo_array_CharBuffer() throws Exception {
+        DateTimeFormatter test = DateTimeFormatters.isoLocalDate();
+        CharBuffer buf = CharBuffer.allocate(32);
+        test.printAllTo(new Calendrical[] {LocalDate.of(2008, 6, 30), LocalDate.of(2008, 7, 1)}, "|", buf);
+        buf.flip();
+        assertEquals(buf.toString(), "2008-06-30|2008-07-01");
+    }
+
+    @Test(groups={"tck"})
+    public void test_printAllTo_Iterable_errorOutputsEarlierValues() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        StringWriter writer = new StringWriter();
+        try {
+            test.printAllTo(Arrays.<Calendrical>asList(LocalDate.of(2008, 6, 30), LocalTime.of(11, 30)), ",", writer);
+            fail();
+        } catch (CalendricalException ex) {
+            assertEquals(writer.toString(), "ONE30");
+        }
+    }
+
+    @Test(expectedExceptions=UnsupportedOperationException.class, groups={"tck"})
+    public void test_printAllTo_Iterable_noPrinting() throws Exception {
+        printers.set(0, null);
+        compPP = new CompositePrinterParser(printers, parsers, false);
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.printAllTo(Arrays.asList(LocalDate.of(2008, 6, 30)), ",", new StringBuilder());
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_printAllTo_Iterable_nullSeparator() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.printAllTo(Arrays.asList(LocalDate.of(2008, 6, 30)), null, new StringBuilder());
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_printAllTo_Iterable_nullAppendable() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.printAllTo(Arrays.asList(LocalDate.of(2008, 6, 30)), ",", null);
+    }
+
+    @Test(expectedExceptions=IOException.class, groups={"tck"})  // IOException
+    public void test_printAllTo_Iterable_ioError() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        try {
+            test.printAllTo(Arrays.asList(LocalDate.of(2008, 6, 30)), ",", new MockIOExceptionAppendable());
+        } catch (CalendricalPrintException ex) {
+            assertEquals(ex.getCause() instanceof IOException, true);
+            ex.rethrowIOException();
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_printEpochDaysTo() throws Exception {
+        DateTimeFormatter test = DateTimeFormatters.pattern("yyyyMMdd");
+        StringBuilder buf = new StringBuilder();
+        test.printEpochDaysTo(new long[] {0, -1, 14060}, ",", buf);
+        assertEquals(buf.toString(), "19700101,19691231,20080630");
+    }
+
+    @Test(groups={"tck"})
+    public void test_printEpochSecondsTo() throws Exception {
+        DateTimeFormatter test = DateTimeFormatters.isoOffsetDateTime();
+        StringWriter writer = new StringWriter();
+        test.printEpochSecondsTo(new long[] {0, 86399}, ZoneOffset.ofHours(2), ";", writer);
+        assertEquals(writer.toString(), "1970-01-01T02:00:00+02:00;1970-01-02T01:59:59+02:00");
+    }
+
+    @Test(groups={"implementation"})
+    public void test_printEpochDaysTo_fixedWidthMatchesPrint() throws Exception {
+        DateTimeFormatter test = DateTimeFormatters.pattern("yyyy-MM-dd");
+        StringBuilder expected = new StringBuilder();
+        long[] epochDays = new long[4000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = -800000L + i * 997L;  // years -221 to 10897, beyond the fixed width at both ends
+            expected.append(i == 0 ? "" : ",").append(test.print(LocalDate.ofEpochDay(epochDays[i])));
+        }
+        StringBuilder buf = new StringBuilder();
+        test.printEpochDaysTo(epochDays, ",", buf);
+        assertEquals(buf.toString(), expected.toString());
+    }
+
+    @Test(groups={"implementation"})
+    public void test_printEpochSecondsTo_fixedWidthMatchesPrint() throws Exception {
+        DateTimeFormatter test = DateTimeFormatters.pattern("yyyy-MM-dd HH:mm:ss");
+        ZoneOffset[] offsets = {ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(-10, -30), ZoneOffset.ofHours(14)};
+        for (ZoneOffset offset : offsets) {
+            StringBuilder expected = new StringBuilder();
+            long[] epochSeconds = new long[4000];
+            for (int i = 0; i < epochSeconds.length; i++) {
+                epochSeconds[i] = -70000000000L + i * 86400013L;  // years -248 to 11162, crossing day boundaries
+                expected.append(i == 0 ? "" : ";").append(test.print(OffsetDateTime.ofEpochSecond(epochSeconds[i], offset)));
+            }
+            StringWriter writer = new StringWriter();
+            test.printEpochSecondsTo(epochSeconds, offset, ";", writer);
+            assertEquals(writer.toString(), expected.toString());
+        }
+    }
+
+    @Test(expectedExceptions=CalendricalException.class, groups={"tck"})
+    public void test_printEpochDaysTo_timeField() throws Exception {
+        DateTimeFormatter test = DateTimeFormatters.pattern("yyyy-MM-dd HH");
+        test.printEpochDaysTo(new long[] {0}, ",", new StringBuilder());
+    }
+
     //-----------------------------------------------------------------------
     // parse
     //-----------------------------------------------------------------------
@@ -312,6 +457,104 @@ public class TestDateTimeFormatter {
         test.parse("ONE30", DAY_OF_MONTH);
     }
 
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_parseAll_List() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        BulkParseResult<DateTimeField> result = test.parseAll(
+                Arrays.asList("ONE30", "TWO30", "ONE30SomethingElse", "ONE1"), DAY_OF_MONTH);
+        assertEquals(result.size(), 4);
+        assertEquals(result.getErrorCount(), 2);
+        assertEquals(result.get(0), DAY_OF_MONTH.field(30L));
+        assertEquals(result.getErrorIndex(0), -1);
+        assertEquals(result.get(1), null);
+        assertEquals(result.getErrorIndex(1), 0);
+        assertEquals(result.get(2), null);
+        assertEquals(result.getErrorIndex(2), 5);
+        assertEquals(result.get(3), DAY_OF_MONTH.field(1L));
+        assertEquals(result.getErrorIndex(3), -1);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parseAll_array_mergeError() throws Exception {
+        DateTimeFormatter test = DateTimeFormatters.isoLocalDate();
+        BulkParseResult<LocalDate> result = test.parseAll(new CharSequence[] {"2008-02-30", "2008-02-29"}, LocalDate.rule());
+        assertEquals(result.getErrorCount(), 1);
+        assertEquals(result.get(0), null);
+        assertEquals(result.getErrorIndex(0), 0);
+        assertEquals(result.get(1), LocalDate.of(2008, 2, 29));
+    }
+
+    @Test(groups={"tck"})
+    public void test_parseAll_empty() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        BulkParseResult<DateTimeField> result = test.parseAll(new ArrayList<String>(), DAY_OF_MONTH);
+        assertEquals(result.size(), 0);
+        assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parseAll_executor() throws Exception {
+        DateTimeFormatter test = DateTimeFormatters.isoLocalDate();
+        List<String> texts = new LinkedList<String>();
+        for (int i = 0; i < 5000; i++) {
+            texts.add(i % 7 == 0 ? "2008-XX-01" : LocalDate.of(2008, 6, 30).plusDays(i).toString());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            BulkParseResult<LocalDate> result = test.parseAll(texts, LocalDate.rule(), executor);
+            BulkParseResult<LocalDate> expected = test.parseAll(texts, LocalDate.rule());
+            assertEquals(result.size(), 5000);
+            assertEquals(result.getErrorCount(), 715);
+            for (int i = 0; i < 5000; i++) {
+                assertEquals(result.get(i), expected.get(i));
+                assertEquals(result.getErrorIndex(i), i % 7 == 0 ? 5 : -1);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parseAll_executor_nullText() throws Exception {
+        DateTimeFormatter test = DateTimeFormatters.isoLocalDate();
+        String[] texts = new String[1000];
+        Arrays.fill(texts, "2008-06-30");
+        texts[999] = null;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            test.parseAll(texts, LocalDate.rule(), executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parseAll_nullTexts() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parseAll((List<String>) null, DAY_OF_MONTH);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parseAll_nullRule() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parseAll(Arrays.asList("ONE30"), (CalendricalRule<?>) null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parseAll_nullExecutor() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parseAll(Arrays.asList("ONE30"), DAY_OF_MONTH, null);
+    }
+
+    @Test(expectedExceptions=UnsupportedOperationException.class, groups={"tck"})
+    public void test_parseAll_noParsing() throws Exception {
+        parsers.set(0, null);
+        compPP = new CompositePrinterParser(printers, parsers, false);
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parseAll(Arrays.asList("ONE30"), DAY_OF_MONTH);
+    }
+
     //-----------------------------------------------------------------------
     @Test(groups={"tck"})
     public void test_parseBest_firstOption() throws Exception {
@@ -521,6 +764,112 @@ public class TestDateTimeFormatter {
         test.parseToContext("ONE30", pos);
     }
 
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_parseToContext_StringIntContext() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        DateTimeParseContext context = test.createParseContext();
+        assertEquals(context.getLocale(), Locale.ENGLISH);
+        assertEquals(test.parseToContext("ONE30XXX", 0, context), 5);
+        assertEquals(context.getParsed().size(), 1);
+        assertEquals(context.getParsedValue(DAY_OF_MONTH), 30L);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parseToContext_StringIntContext_reused() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        DateTimeParseContext context = new DateTimeParseContext(Locale.FRANCE, DateTimeFormatSymbols.of(Locale.FRANCE));
+        context.setParsedField(YEAR, 2008);
+        context.setCaseSensitive(false);
+        assertEquals(test.parseToContext("XXONE12", 2, context), 7);
+        assertEquals(context.getLocale(), Locale.ENGLISH);
+        assertEquals(context.getSymbols(), DateTimeFormatSymbols.STANDARD);
+        assertEquals(context.isCaseSensitive(), true);
+        assertEquals(context.getParsed().size(), 1);
+        assertEquals(context.getParsedValue(DAY_OF_MONTH), 12L);
+        assertEquals(test.parseToContext("ONE30", 0, context), 5);
+        assertEquals(context.getParsed().size(), 1);
+        assertEquals(context.getParsedValue(DAY_OF_MONTH), 30L);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parseToContext_StringIntContext_parseError() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        DateTimeParseContext context = test.createParseContext();
+        assertEquals(test.parseToContext("ONEXXX", 0, context), ~3);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parseToContext_StringIntContext_nullString() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parseToContext((String) null, 0, test.createParseContext());
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parseToContext_StringIntContext_nullContext() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parseToContext("ONE30", 0, null);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_parseEpochDay() throws Exception {
+        assertEquals(DateTimeFormatters.isoLocalDate().parseEpochDay("2011-06-30"), LocalDate.of(2011, 6, 30).toEpochDay());
+        assertEquals(DateTimeFormatters.basicIsoDate().parseEpochDay("19700101"), 0L);
+        assertEquals(DateTimeFormatters.isoLocalDate().parseEpochDay("+12011-06-30"), LocalDate.of(12011, 6, 30).toEpochDay());
+        assertEquals(DateTimeFormatters.isoOrdinalDate().parseEpochDay("2011-181"), LocalDate.of(2011, 6, 30).toEpochDay());
+    }
+
+    @Test(expectedExceptions=CalendricalParseException.class, groups={"tck"})
+    public void test_parseEpochDay_invalidDate() throws Exception {
+        DateTimeFormatters.isoLocalDate().parseEpochDay("2011-02-29");
+    }
+
+    @Test(expectedExceptions=CalendricalParseException.class, groups={"tck"})
+    public void test_parseEpochDay_parseError() throws Exception {
+        DateTimeFormatters.isoLocalDate().parseEpochDay("2011-06-3X");
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parseEpochDay_null() throws Exception {
+        DateTimeFormatters.isoLocalDate().parseEpochDay(null);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parseNanoOfDay() throws Exception {
+        assertEquals(DateTimeFormatters.pattern("HH:mm:ss").parseNanoOfDay("12:30:40"), LocalTime.of(12, 30, 40).toNanoOfDay());
+        assertEquals(DateTimeFormatters.isoLocalTime().parseNanoOfDay("12:30:40.5"), LocalTime.of(12, 30, 40, 500000000).toNanoOfDay());
+    }
+
+    @Test(expectedExceptions=CalendricalParseException.class, groups={"tck"})
+    public void test_parseNanoOfDay_invalidTime() throws Exception {
+        DateTimeFormatters.pattern("HH:mm:ss").parseNanoOfDay("12:60:00");
+    }
+
+    @Test(groups={"tck"})
+    public void test_parseEpochSecond() throws Exception {
+        int[] nanos = new int[1];
+        OffsetDateTime expected = OffsetDateTime.of(2011, 6, 30, 12, 30, 40, ZoneOffset.ofHours(2));
+        assertEquals(DateTimeFormatters.pattern("yyyyMMddHHmmss").parseEpochSecond("20110630123040", ZoneOffset.ofHours(2), nanos),
+                expected.toEpochSecond());
+        assertEquals(nanos[0], 0);
+        assertEquals(DateTimeFormatters.isoLocalDateTime().parseEpochSecond("2011-06-30T12:30:40.5", ZoneOffset.ofHours(2), nanos),
+                expected.toEpochSecond());
+        assertEquals(nanos[0], 500000000);
+        assertEquals(DateTimeFormatters.isoOffsetDateTime().parseEpochSecond("2011-06-30T12:30:40+02:00", ZoneOffset.UTC, null),
+                expected.toEpochSecond());
+    }
+
+    @Test(expectedExceptions=CalendricalParseException.class, groups={"tck"})
+    public void test_parseEpochSecond_invalidDateTime() throws Exception {
+        DateTimeFormatters.pattern("yyyyMMddHHmmss").parseEpochSecond("20110631123040", ZoneOffset.UTC, null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parseEpochSecond_nullOffset() throws Exception {
+        DateTimeFormatters.pattern("yyyyMMddHHmmss").parseEpochSecond("20110630123040", null, null);
+    }
+
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
     @Test(groups={"tck"})
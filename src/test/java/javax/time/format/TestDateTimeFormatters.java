@@ -43,6 +43,7 @@ import static javax.time.calendrical.ISODateTimeRule.WEEK_BASED_YEAR;
 import static javax.time.calendrical.ISODateTimeRule.WEEK_OF_WEEK_BASED_YEAR;
 import static javax.time.calendrical.ISODateTimeRule.YEAR;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -146,6 +147,17 @@ public class TestDateTimeFormatters {
         DateTimeFormatters.pattern("yyyy", null);
     }
 
+    @Test(groups={"implementation"})
+    public void test_pattern_cached() {
+        long hits = DateTimeFormatters.getPatternCacheHitCount();
+        DateTimeFormatter test1 = DateTimeFormatters.pattern("yyyy'-cached-'MM", Locale.UK);
+        DateTimeFormatter test2 = DateTimeFormatters.pattern("yyyy'-cached-'MM", Locale.UK);
+        assertSame(test2, test1);
+        assertTrue(DateTimeFormatters.getPatternCacheHitCount() > hits);
+        assertTrue(DateTimeFormatters.getPatternCacheMissCount() > 0);
+        assertTrue(DateTimeFormatters.getPatternCacheEvictionCount() >= 0);
+    }
+
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
@@ -32,6 +32,7 @@
 package javax.time.format;
 
 import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
 import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
 import static javax.time.calendrical.ISODateTimeRule.YEAR;
 import static org.testng.Assert.assertEquals;
@@ -39,6 +40,7 @@ import static org.testng.Assert.assertEquals;
 import java.util.List;
 import java.util.Locale;
 
+import javax.time.CalendricalException;
 import javax.time.LocalDate;
 import javax.time.ZoneId;
 import javax.time.ZoneOffset;
@@ -202,6 +204,82 @@ public class TestDateTimeParseContext {
         assertEquals(list.get(1), MONTH_OF_YEAR.field(6L));
     }
 
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_getParsedValue() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.setParsed(DAY_OF_MONTH.field(30));
+        assertEquals(context.containsParsed(YEAR), true);
+        assertEquals(context.containsParsed(DAY_OF_MONTH), true);
+        assertEquals(context.containsParsed(HOUR_OF_DAY), false);
+        assertEquals(context.containsParsed(null), false);
+        assertEquals(context.getParsedValue(YEAR), 2008L);
+        assertEquals(context.getParsedValue(MONTH_OF_YEAR), 6L);
+        assertEquals(context.getParsedValue(DAY_OF_MONTH), 30L);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class, groups={"tck"})
+    public void test_getParsedValue_notParsed() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.getParsedValue(MONTH_OF_YEAR);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_getParsedValue_null() throws Exception {
+        context.getParsedValue(null);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_optional_successful() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.startOptional();
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.endOptional(true);
+        assertEquals(context.getParsed().size(), 2);
+        assertEquals(context.getParsed().get(0), YEAR.field(2008L));
+        assertEquals(context.getParsed().get(1), MONTH_OF_YEAR.field(6L));
+    }
+
+    @Test(groups={"tck"})
+    public void test_optional_unsuccessful() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.startOptional();
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.endOptional(false);
+        assertEquals(context.getParsed().size(), 1);
+        assertEquals(context.getParsed().get(0), YEAR.field(2008L));
+        
+        context.startOptional();
+        context.startOptional();
+        context.setParsedField(DAY_OF_MONTH, 30);
+        context.endOptional(true);
+        context.endOptional(false);
+        assertEquals(context.getParsed().size(), 1);
+        assertEquals(context.containsParsed(DAY_OF_MONTH), false);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_reset() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.startOptional();
+        context.setParsed(LocalDate.of(2010, 6, 30));
+        context.setCaseSensitive(false);
+        context.setStrict(false);
+        context.reset();
+        assertEquals(context.getParsed().size(), 0);
+        assertEquals(context.isCaseSensitive(), true);
+        assertEquals(context.isStrict(), true);
+        assertEquals(context.getLocale(), Locale.GERMANY);
+        assertEquals(context.getSymbols(), symbols);
+        
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        assertEquals(context.getParsed().size(), 1);
+        assertEquals(context.getParsed().get(0), MONTH_OF_YEAR.field(6L));
+    }
+
     //-----------------------------------------------------------------------
     @Test(groups={"tck"})
     public void test_toString() throws Exception {
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_WEEK;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
+import javax.time.OffsetDate;
+import javax.time.OffsetDateTime;
+import javax.time.OffsetTime;
+import javax.time.YearMonth;
+import javax.time.ZoneOffset;
+import javax.time.calendrical.Calendrical;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test FixedWidthPrinterParser.
+ *
+ * @author Stephen Colebourne
+ */
+@Test(groups={"implementation"})
+public class TestFixedWidthPrinterParser {
+
+    private static final DateTimeFormatSymbols SYMBOLS = DateTimeFormatSymbols.STANDARD;
+
+    private static FixedWidthPrinterParser parser(DateTimeFormatterBuilder builder) {
+        return builder.toFormatter().toPrinterParser(false).getFixedWidth();
+    }
+
+    private static FixedWidthPrinterParser isoDate() {
+        return parser(new DateTimeFormatterBuilder()
+            .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD).appendLiteral('-')
+            .appendValue(MONTH_OF_YEAR, 2).appendLiteral('-').appendValue(DAY_OF_MONTH, 2));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of_fixedWidth() {
+        assertNotNull(isoDate());
+        assertNotNull(parser(new DateTimeFormatterBuilder()
+            .appendValue(HOUR_OF_DAY, 2).appendValue(MINUTE_OF_HOUR, 2)));
+    }
+
+    public void test_of_variableWidth() {
+        assertNull(parser(new DateTimeFormatterBuilder().appendValue(YEAR)));
+        assertNull(parser(new DateTimeFormatterBuilder().appendValue(YEAR, 2, 4, SignStyle.NOT_NEGATIVE)));
+        assertNull(parser(new DateTimeFormatterBuilder().appendValueReduced(YEAR, 2, 2000)));
+    }
+
+    public void test_of_unsupported() {
+        assertNull(parser(new DateTimeFormatterBuilder().appendValue(DAY_OF_WEEK, 1)));
+        assertNull(parser(new DateTimeFormatterBuilder().appendValue(YEAR, 4).appendValue(YEAR, 4)));
+        assertNull(parser(new DateTimeFormatterBuilder().appendValue(YEAR, 4).appendLiteral("--")));
+        assertNull(parser(new DateTimeFormatterBuilder().appendValue(YEAR, 4).optionalStart().appendValue(MONTH_OF_YEAR, 2)));
+        assertNull(parser(new DateTimeFormatterBuilder().parseLenient().appendValue(YEAR, 4)));
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="print")
+    Object[][] data_print() {
+        LocalDateTime ldt = LocalDateTime.of(2011, 6, 30, 12, 30, 40, 5);
+        return new Object[][] {
+            {LocalDate.of(2011, 6, 30), "2011-06-30"},
+            {LocalDate.of(5, 1, 2), "0005-01-02"},
+            {ldt, "2011-06-30"},
+            {OffsetDateTime.of(ldt, ZoneOffset.ofHours(2)), "2011-06-30"},
+            {OffsetDate.of(2011, 6, 30, ZoneOffset.ofHours(2)), "2011-06-30"},
+            {LocalDate.of(12011, 6, 30), null},
+            {LocalDate.of(-1, 6, 30), null},
+            {LocalTime.of(12, 30), null},
+            {YearMonth.of(2011, 6), null},
+        };
+    }
+
+    @Test(dataProvider="print")
+    public void test_print(Calendrical calendrical, String expected) {
+        StringBuilder buf = new StringBuilder("EXISTING");
+        boolean printed = isoDate().print(calendrical, SYMBOLS, buf);
+        assertEquals(printed, expected != null);
+        assertEquals(buf.toString(), "EXISTING" + (expected != null ? expected : ""));
+    }
+
+    public void test_print_time() {
+        FixedWidthPrinterParser test = parser(new DateTimeFormatterBuilder()
+            .appendValue(HOUR_OF_DAY, 2).appendLiteral(':').appendValue(MINUTE_OF_HOUR, 2));
+        StringBuilder buf = new StringBuilder();
+        assertEquals(test.print(LocalDateTime.of(2011, 6, 30, 9, 5), SYMBOLS, buf), true);
+        assertEquals(test.print(OffsetTime.of(23, 59, ZoneOffset.UTC), SYMBOLS, buf), true);
+        assertEquals(test.print(LocalDate.of(2011, 6, 30), SYMBOLS, buf), false);
+        assertEquals(buf.toString(), "09:0523:59");
+    }
+
+    public void test_print_zeroDigit() {
+        StringBuilder buf = new StringBuilder();
+        isoDate().print(LocalDate.of(120, 1, 1), DateTimeFormatSymbols.STANDARD.withZeroDigit('A'), buf);
+        assertEquals(buf.toString(), "ABCA-AB-AB");
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="epochDay")
+    Object[][] data_epochDay() {
+        return new Object[][] {
+            {"2011-06-30", LocalDate.of(2011, 6, 30).toEpochDay()},
+            {"1970-01-01", 0L},
+            {"0000-01-01", LocalDate.of(0, 1, 1).toEpochDay()},
+            {"2012-02-29", LocalDate.of(2012, 2, 29).toEpochDay()},
+            {"2011-02-29", Long.MIN_VALUE},
+            {"2011-13-01", Long.MIN_VALUE},
+            {"2011-06-00", Long.MIN_VALUE},
+            {"2011/06/30", Long.MIN_VALUE},
+            {"2011-06-3X", Long.MIN_VALUE},
+            {"+2011-06-30", Long.MIN_VALUE},
+            {"2011-06-301", Long.MIN_VALUE},
+            {"2011-06-3", Long.MIN_VALUE},
+        };
+    }
+
+    @Test(dataProvider="epochDay")
+    public void test_parseEpochDay(String text, long expected) {
+        assertEquals(isoDate().parseEpochDay(text, SYMBOLS), expected);
+    }
+
+    public void test_parseEpochDay_noDate() {
+        FixedWidthPrinterParser test = parser(new DateTimeFormatterBuilder().appendValue(YEAR, 4).appendValue(MONTH_OF_YEAR, 2));
+        assertEquals(test.parseEpochDay("201106", SYMBOLS), Long.MIN_VALUE);
+    }
+
+    public void test_parseNanoOfDay() {
+        FixedWidthPrinterParser test = parser(new DateTimeFormatterBuilder()
+            .appendValue(HOUR_OF_DAY, 2).appendLiteral(':').appendValue(MINUTE_OF_HOUR, 2));
+        assertEquals(test.parseNanoOfDay("12:30", SYMBOLS), (12 * 60 + 30) * 60 * 1000000000L);
+        assertEquals(test.parseNanoOfDay("24:00", SYMBOLS), -1L);
+        assertEquals(isoDate().parseNanoOfDay("2011-06-30", SYMBOLS), -1L);
+    }
+
+    public void test_parseEpochSecond() {
+        FixedWidthPrinterParser test = parser(new DateTimeFormatterBuilder()
+            .appendValue(YEAR, 4).appendValue(MONTH_OF_YEAR, 2).appendValue(DAY_OF_MONTH, 2)
+            .appendValue(HOUR_OF_DAY, 2).appendValue(MINUTE_OF_HOUR, 2));
+        assertEquals(test.parseEpochSecond("197001020130", SYMBOLS, ZoneOffset.ofHours(1)), 86400L + 1800L);
+        assertEquals(test.nanoOfSecond("197001020130", SYMBOLS), 0);
+        assertEquals(isoDate().parseEpochSecond("2011-06-30", SYMBOLS, ZoneOffset.UTC), Long.MIN_VALUE);
+    }
+
+    public void test_parse_zeroDigit() {
+        DateTimeFormatSymbols symbols = DateTimeFormatSymbols.STANDARD.withZeroDigit('A');
+        assertEquals(isoDate().parseEpochDay("ABCA-AB-AB", symbols), LocalDate.of(120, 1, 1).toEpochDay());
+        assertEquals(isoDate().parseEpochDay("2011-06-30", symbols), Long.MIN_VALUE);
+    }
+
+}
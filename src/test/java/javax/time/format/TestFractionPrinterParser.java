@@ -31,6 +31,8 @@
  */
 package javax.time.format;
 
+import static javax.time.calendrical.ISODateTimeRule.MILLI_OF_SECOND;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_DAY;
 import static javax.time.calendrical.ISODateTimeRule.NANO_OF_SECOND;
 import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_MINUTE;
 import static org.testng.Assert.assertEquals;
@@ -238,6 +240,80 @@ public class TestFractionPrinterParser extends AbstractTestPrinterParser {
         assertParsed(parseContext, SECOND_OF_MINUTE, value == 0 && minWidth == 0 ? null : value);
     }
 
+    //-----------------------------------------------------------------------
+    @DataProvider(name="Millis")
+    Object[][] provider_millis() {
+        return new Object[][] {
+            {0, 9, 0,   ""},
+            {0, 9, 1,   ".001"},
+            {0, 9, 50,  ".05"},
+            {0, 9, 999, ".999"},
+            {3, 3, 0,   ".000"},
+            {3, 3, 7,   ".007"},
+            {1, 2, 999, ".99"},
+            {6, 9, 123, ".123000"},
+        };
+    }
+
+    @Test(dataProvider="Millis")
+    public void test_print_millis(int minWidth, int maxWidth, int value, String result) throws Exception {
+        printContext.setCalendrical(DateTimeFields.of(MILLI_OF_SECOND, value));
+        FractionPrinterParser pp = new FractionPrinterParser(MILLI_OF_SECOND, minWidth, maxWidth);
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), result);
+    }
+
+    @Test(dataProvider="Millis")
+    public void test_reverseParse_millis(int minWidth, int maxWidth, int value, String result) throws Exception {
+        FractionPrinterParser pp = new FractionPrinterParser(MILLI_OF_SECOND, minWidth, maxWidth);
+        int newPos = pp.parse(parseContext, result, 0);
+        assertEquals(newPos, result.length());
+        int expectedValue = (maxWidth < 3 ? value / 10 * 10 : value);
+        assertParsed(parseContext, MILLI_OF_SECOND, value == 0 && minWidth == 0 ? null : expectedValue);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="NanoOfDay")
+    Object[][] provider_nanoOfDay() {
+        return new Object[][] {
+            {0, 9, 0L,               ""},
+            {0, 9, 43200000000000L,  ".5"},
+            {0, 9, 21600000000000L,  ".25"},
+            {2, 2, 64800000000000L,  ".75"},
+            {0, 9, 86399999999999L,  ".999999999"},
+        };
+    }
+
+    @Test(dataProvider="NanoOfDay")
+    public void test_print_nanoOfDay(int minWidth, int maxWidth, long value, String result) throws Exception {
+        printContext.setCalendrical(DateTimeFields.of(NANO_OF_DAY, value));
+        FractionPrinterParser pp = new FractionPrinterParser(NANO_OF_DAY, minWidth, maxWidth);
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), result);
+    }
+
+    public void test_reverseParse_nanoOfDay() throws Exception {
+        FractionPrinterParser pp = new FractionPrinterParser(NANO_OF_DAY, 0, 9);
+        int newPos = pp.parse(parseContext, ".25", 0);
+        assertEquals(newPos, 3);
+        assertParsed(parseContext, NANO_OF_DAY, 21600000000000L);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_print_customRule() throws Exception {
+        printContext.setCalendrical(DateTimeFields.of(MockReversedFractionFieldRule.INSTANCE, 2));
+        FractionPrinterParser pp = new FractionPrinterParser(MockReversedFractionFieldRule.INSTANCE, 0, 9);
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), ".7");
+    }
+
+    public void test_reverseParse_customRule() throws Exception {
+        FractionPrinterParser pp = new FractionPrinterParser(MockReversedFractionFieldRule.INSTANCE, 0, 9);
+        int newPos = pp.parse(parseContext, ".7", 0);
+        assertEquals(newPos, 2);
+        assertParsed(parseContext, MockReversedFractionFieldRule.INSTANCE, 2);
+    }
+
     private void assertParsed(DateTimeParseContext context, DateTimeRule rule, Number value) {
         if (value == null) {
             assertEquals(context.getParsed(rule), null);
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.util.Locale;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test PatternFormatterCache.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestPatternFormatterCache {
+
+    //-----------------------------------------------------------------------
+    public void test_get_cached() {
+        PatternFormatterCache test = new PatternFormatterCache(4);
+        DateTimeFormatter first = test.get("yyyy-MM-dd", Locale.UK);
+        assertEquals(first.getLocale(), Locale.UK);
+        assertEquals(first.toString(), new DateTimeFormatterBuilder().appendPattern("yyyy-MM-dd").toFormatter().toString());
+        assertSame(test.get("yyyy-MM-dd", Locale.UK), first);
+        assertEquals(test.getHitCount(), 1);
+        assertEquals(test.getMissCount(), 1);
+        assertEquals(test.getEvictionCount(), 0);
+        assertEquals(test.size(), 1);
+    }
+
+    public void test_get_keyedByLocale() {
+        PatternFormatterCache test = new PatternFormatterCache(4);
+        DateTimeFormatter uk = test.get("yyyy-MM-dd", Locale.UK);
+        DateTimeFormatter france = test.get("yyyy-MM-dd", Locale.FRANCE);
+        assertNotSame(france, uk);
+        assertEquals(france.getLocale(), Locale.FRANCE);
+        assertEquals(test.getMissCount(), 2);
+        assertEquals(test.size(), 2);
+    }
+
+    public void test_get_evictsLeastRecentlyUsed() {
+        PatternFormatterCache test = new PatternFormatterCache(2);
+        DateTimeFormatter a = test.get("yyyy", Locale.UK);
+        DateTimeFormatter b = test.get("MM", Locale.UK);
+        assertSame(test.get("yyyy", Locale.UK), a);
+        test.get("dd", Locale.UK);  // evicts MM, the least recently used
+        assertEquals(test.size(), 2);
+        assertEquals(test.getEvictionCount(), 1);
+        assertSame(test.get("yyyy", Locale.UK), a);
+        assertNotSame(test.get("MM", Locale.UK), b);
+        assertEquals(test.getEvictionCount(), 2);
+        assertEquals(test.getHitCount(), 2);
+        assertEquals(test.getMissCount(), 4);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_get_invalid() {
+        PatternFormatterCache test = new PatternFormatterCache(2);
+        try {
+            test.get("p", Locale.UK);
+        } finally {
+            assertEquals(test.getMissCount(), 1);
+            assertEquals(test.size(), 0);
+        }
+    }
+
+}
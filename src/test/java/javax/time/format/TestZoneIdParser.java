@@ -34,10 +34,16 @@ package javax.time.format;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Collections;
 import java.util.Set;
+import java.util.UUID;
 
 import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.zone.ZoneRules;
+import javax.time.zone.ZoneRulesDataProvider;
 import javax.time.zone.ZoneRulesGroup;
+import javax.time.zone.ZoneRulesVersion;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -99,6 +105,20 @@ public class TestZoneIdParser extends AbstractTestPrinterParser {
         assertParsed(TIME_ZONE_DENVER);
     }
 
+    public void test_parse_longestMatch() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser();
+        int result = pp.parse(parseContext, "Etc/GMT+10", 0);
+        assertEquals(result, 10);
+        assertParsed(ZoneId.of("Etc/GMT+10"));
+    }
+
+    public void test_parse_longestMatch_shorterValid() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser();
+        int result = pp.parse(parseContext, "Etc/GMT+1X", 0);
+        assertEquals(result, 9);
+        assertParsed(ZoneId.of("Etc/GMT+1"));
+    }
+
     public void test_parse_partialMatch() throws Exception {
         ZoneIdPrinterParser pp = new ZoneIdPrinterParser();
         int result = pp.parse(parseContext, "OTHERAmerica/Bogusville", 5);
@@ -126,6 +146,46 @@ public class TestZoneIdParser extends AbstractTestPrinterParser {
         assertParsed(expected);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_parse_afterRegisterProvider() throws Exception {
+        // providers cannot be unregistered, so the group remains visible to every later test in this JVM
+        // a unique group ID ensures that it cannot clash with any other group
+        final String groupID = "TESTPARSE-" + UUID.randomUUID();
+        String text = groupID + ":Parseland";
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser();
+        int result = pp.parse(parseContext, text, 0);
+        assertEquals(result, ~0);
+        
+        ZoneRulesGroup.registerProvider(new ZoneRulesDataProvider() {
+            public String getGroupID() {
+                return groupID;
+            }
+            public Set<ZoneRulesVersion> getVersions() {
+                ZoneRulesVersion version = new ZoneRulesVersion() {
+                    public String getVersionID() {
+                        return "1";
+                    }
+                    public boolean isRegionID(String regionID) {
+                        return regionID.equals("Parseland");
+                    }
+                    public Set<String> getRegionIDs() {
+                        return Collections.singleton("Parseland");
+                    }
+                    public ZoneRules getZoneRules(String regionID) {
+                        return ZoneId.of(ZoneOffset.ofHours(4)).getRules();
+                    }
+                };
+                return Collections.singleton(version);
+            }
+            public Set<String> getRegionIDs() {
+                return Collections.singleton("Parseland");
+            }
+        });
+        result = pp.parse(parseContext, text, 0);
+        assertEquals(result, text.length());
+        assertParsed(ZoneId.of(text));
+    }
+
     //-----------------------------------------------------------------------
     public void test_parse_endStringMatch_utc() throws Exception {
         ZoneIdPrinterParser pp = new ZoneIdPrinterParser();
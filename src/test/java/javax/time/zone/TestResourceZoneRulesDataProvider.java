@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test ResourceZoneRulesDataProvider.
+ *
+ * @author Stephen Colebourne
+ */
+@Test(groups="implementation")
+public class TestResourceZoneRulesDataProvider {
+
+    /** The resource. */
+    private static final String RESOURCE = "javax/time/calendar/zone/ZoneRules.dat";
+
+    /** The resource in the jar file. */
+    private URL jarURL;
+    /** The resource copied to a file. */
+    private File file;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        jarURL = Thread.currentThread().getContextClassLoader().getResource(RESOURCE);
+        assertNotNull(jarURL);
+        file = File.createTempFile("ZoneRules", ".dat");
+        InputStream in = jarURL.openStream();
+        try {
+            OutputStream out = new FileOutputStream(file);
+            try {
+                byte[] buf = new byte[8192];
+                int len;
+                while ((len = in.read(buf)) > 0) {
+                    out.write(buf, 0, len);
+                }
+            } finally {
+                out.close();
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    @AfterClass
+    public void tearDown() {
+        file.delete();  // may fail on some platforms while mapped
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_mapped_matchesRead() throws Exception {
+        ResourceZoneRulesDataProvider read = new ResourceZoneRulesDataProvider(jarURL);
+        ResourceZoneRulesDataProvider mapped = new ResourceZoneRulesDataProvider(file.toURI().toURL());
+        assertEquals(mapped.getGroupID(), read.getGroupID());
+        assertEquals(mapped.getRegionIDs(), read.getRegionIDs());
+        assertEquals(mapped.getVersions().size(), read.getVersions().size());
+        for (ZoneRulesVersion readVersion : read.getVersions()) {
+            ZoneRulesVersion mappedVersion = null;
+            for (ZoneRulesVersion version : mapped.getVersions()) {
+                if (version.getVersionID().equals(readVersion.getVersionID())) {
+                    mappedVersion = version;
+                }
+            }
+            assertNotNull(mappedVersion, readVersion.getVersionID());
+            assertEquals(mappedVersion.getRegionIDs(), readVersion.getRegionIDs());
+            for (String regionID : readVersion.getRegionIDs()) {
+                ZoneRules rules = mappedVersion.getZoneRules(regionID);
+                assertEquals(rules, readVersion.getZoneRules(regionID), regionID + '#' + readVersion.getVersionID());
+                assertEquals(mappedVersion.getZoneRules(regionID), rules);
+            }
+            assertNull(mappedVersion.getZoneRules("Not/Known"));
+        }
+    }
+
+    public void test_historicVersion() throws Exception {
+        URL[] urls = {jarURL, file.toURI().toURL()};
+        for (URL url : urls) {
+            ResourceZoneRulesDataProvider test = new ResourceZoneRulesDataProvider(url);
+            ZoneRulesVersion oldest = null;
+            for (ZoneRulesVersion version : test.getVersions()) {
+                if (oldest == null || version.getVersionID().compareTo(oldest.getVersionID()) < 0) {
+                    oldest = version;
+                }
+            }
+            assertEquals(oldest.getVersionID(), "2005b");
+            assertEquals(oldest.isRegionID("Europe/London"), true);
+            assertEquals(oldest.isRegionID("Not/Known"), false);
+            assertEquals(oldest.getRegionIDs().contains("Europe/London"), true);
+            assertEquals(oldest.getZoneRules("Europe/London"), ZoneRulesGroup.getGroup("TZDB").getRules("Europe/London", "2005b"));
+        }
+    }
+
+}
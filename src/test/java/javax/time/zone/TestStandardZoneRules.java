@@ -33,6 +33,7 @@ package javax.time.zone;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -959,6 +960,80 @@ public class TestStandardZoneRules {
         assertEquals(test.nextTransition(last.getInstant()), null);
     }
 
+    //-------------------------------------------------------------------------
+    // getOffset() using last rules
+    //-------------------------------------------------------------------------
+    public void test_getOffset_lastRules() {
+        StandardZoneRules[] rulesArray = {europeLondon(), europeParis(), americaNewYork(),
+                (StandardZoneRules) ZoneId.of("Australia/Sydney#2009b").getRules()};
+        for (StandardZoneRules test : rulesArray) {
+            List<ZoneOffsetTransitionRule> lastRules = test.getTransitionRules();
+            for (int year = 2009; year <= 2102; year++) {
+                for (ZoneOffsetTransitionRule rule : lastRules) {
+                    ZoneOffsetTransition trans = rule.createTransition(year);
+                    Instant instant = trans.getInstant();
+                    assertEquals(test.getOffset(instant.minusNanos(1)), trans.getOffsetBefore(), trans.toString());
+                    assertEquals(test.getOffset(instant), trans.getOffsetAfter(), trans.toString());
+                    assertEquals(test.getOffset(instant.plusSeconds(1)), trans.getOffsetAfter(), trans.toString());
+                }
+                for (int month = 1; month <= 12; month++) {
+                    LocalDateTime dt = LocalDateTime.ofMidnight(year, month, 15);
+                    ZoneOffsetTransition before = test.previousTransition(OffsetDateTime.of(dt, ZoneOffset.UTC).toInstant());
+                    assertEquals(test.getOffset(OffsetDateTime.of(dt, ZoneOffset.UTC).toInstant()), before.getOffsetAfter());
+                }
+            }
+        }
+    }
+
+    public void test_getOffsetInfo_lastRules() {
+        StandardZoneRules[] rulesArray = {europeLondon(), europeParis(), americaNewYork(),
+                (StandardZoneRules) ZoneId.of("Australia/Sydney#2009b").getRules()};
+        for (StandardZoneRules test : rulesArray) {
+            List<ZoneOffsetTransitionRule> lastRules = test.getTransitionRules();
+            for (int year = 2009; year <= 2102; year++) {
+                for (ZoneOffsetTransitionRule rule : lastRules) {
+                    ZoneOffsetTransition trans = rule.createTransition(year);
+                    LocalDateTime earliest = trans.isGap() ? trans.getLocal() : trans.getDateTimeAfter().toLocalDateTime();
+                    LocalDateTime latest = trans.isGap() ? trans.getDateTimeAfter().toLocalDateTime() : trans.getLocal();
+                    ZoneOffsetInfo info = test.getOffsetInfo(earliest.minusNanos(1));
+                    assertEquals(info, ZoneOffsetInfo.ofOffset(trans.getOffsetBefore()), trans.toString());
+                    info = test.getOffsetInfo(earliest);
+                    assertEquals(info, ZoneOffsetInfo.ofTransition(trans), trans.toString());
+                    info = test.getOffsetInfo(latest.minusNanos(1));
+                    assertEquals(info, ZoneOffsetInfo.ofTransition(trans), trans.toString());
+                    info = test.getOffsetInfo(latest);
+                    assertEquals(info, ZoneOffsetInfo.ofOffset(trans.getOffsetAfter()), trans.toString());
+                }
+            }
+        }
+    }
+
+    public void test_getOffsetInfo_normalShared() {
+        StandardZoneRules test = europeLondon();
+        ZoneOffsetInfo info1 = test.getOffsetInfo(LocalDateTime.ofMidnight(1980, 1, 1));
+        ZoneOffsetInfo info2 = test.getOffsetInfo(LocalDateTime.ofMidnight(1980, 1, 2));
+        assertSame(info1, info2);
+        ZoneOffsetInfo info3 = test.getOffsetInfo(LocalDateTime.ofMidnight(2012, 7, 1));
+        ZoneOffsetInfo info4 = test.getOffsetInfo(LocalDateTime.ofMidnight(2012, 7, 2));
+        assertSame(info3, info4);
+        assertEquals(info3.getOffset(), OFFSET_PONE);
+    }
+
+    public void test_getOffsetInfo_normalShared_lastRules() {
+        StandardZoneRules test = americaNewYork();
+        int[] years = {2030, 2150};  // inside and outside the last rules window
+        for (int year : years) {
+            ZoneOffsetInfo info1 = test.getOffsetInfo(LocalDateTime.ofMidnight(year, 7, 1));
+            ZoneOffsetInfo info2 = test.getOffsetInfo(LocalDateTime.of(year, 7, 2, 12, 30));
+            assertSame(info1, info2);
+            assertEquals(info1.getOffset(), ZoneOffset.ofHours(-4));
+            ZoneOffsetInfo info3 = test.getOffsetInfo(LocalDateTime.ofMidnight(year, 1, 10));
+            ZoneOffsetInfo info4 = test.getOffsetInfo(LocalDateTime.of(year, 2, 20, 12, 30));
+            assertSame(info3, info4);
+            assertEquals(info3.getOffset(), ZoneOffset.ofHours(-5));
+        }
+    }
+
     //-------------------------------------------------------------------------
     @Test(expectedExceptions=UnsupportedOperationException.class)
     public void test_getTransitions_immutable() {